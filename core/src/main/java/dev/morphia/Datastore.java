@@ -19,15 +19,20 @@ import dev.morphia.internal.SessionConfigurable;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.FindAndDeleteOptions;
 import dev.morphia.query.FindOptions;
+import dev.morphia.query.PreparedQuery;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.query.UpdateOperations;
+import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.query.internal.FanOutCursor;
+import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
 import org.bson.Document;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -204,6 +209,41 @@ public interface Datastore {
      */
     <T> Query<T> find(String collection);
 
+    /**
+     * Runs several queries concurrently and merges their results.  This suits queries of the same shape run against several collections,
+     * e.g. with {@link #find(String, Class)}, or against several partitions of a collection.  The queries are run on a shared executor
+     * which uses virtual threads when the runtime supports them.
+     * <p>
+     * The results are merged in memory, so sorts the merge can not reproduce like the server would are rejected with an
+     * {@link IllegalArgumentException}.  These include collations, {@code $meta} sorts and sorts on arrays or embedded documents.
+     *
+     * @param queries the queries to run
+     * @param options the options to apply.  Each query is sorted and limited with these options and the results are merged in sort
+     *                order.
+     * @param <T>     the entity type
+     * @return the merged results
+     * @see #findAll(List, FindOptions, Executor)
+     * @since 2.2
+     */
+    default <T> MorphiaCursor<T> findAll(List<Query<T>> queries, FindOptions options) {
+        return findAll(queries, options, FanOutCursor.defaultExecutor());
+    }
+
+    /**
+     * Runs several queries concurrently and merges their results
+     *
+     * @param queries  the queries to run
+     * @param options  the options to apply.  Each query is sorted and limited with these options and the results are merged in sort
+     *                 order.
+     * @param executor the executor to run the queries on
+     * @param <T>      the entity type
+     * @return the merged results
+     * @since 2.2
+     */
+    default <T> MorphiaCursor<T> findAll(List<Query<T>> queries, FindOptions options, Executor executor) {
+        return new MorphiaCursor<>(new FanOutCursor<>(getMapper(), queries, options, executor));
+    }
+
     /**
      * Deletes the given entities based on the query (first item only).
      *
@@ -406,6 +446,20 @@ public interface Datastore {
         merge(entity, new InsertOneOptions().writeConcern(wc));
     }
 
+    /**
+     * Compiles a query to be executed repeatedly with different values.  Use {@link dev.morphia.query.Parameter#parameter(String)} in
+     * place of any filter values which change between executions.
+     *
+     * @param type    the type to query
+     * @param filters the filters to apply
+     * @param <T>     the type to query
+     * @return the prepared query
+     * @since 2.2
+     */
+    default <T> PreparedQuery<T> prepare(Class<T> type, Filter... filters) {
+        return new PreparedQuery<>(this, type, filters);
+    }
+
     /**
      * Returns a new query based on the example object
      *
@@ -1,16 +1,26 @@
 package dev.morphia;
 
 import com.mongodb.ClientSessionOptions;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoWriteException;
+import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.ValidationOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 import com.mongodb.lang.Nullable;
@@ -22,12 +32,15 @@ import dev.morphia.annotations.IndexHelper;
 import dev.morphia.annotations.Validation;
 import dev.morphia.experimental.MorphiaSession;
 import dev.morphia.experimental.MorphiaSessionImpl;
+import dev.morphia.internal.EntityCache;
+import dev.morphia.internal.EntitySnapshots;
 import dev.morphia.internal.SessionConfigurable;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.codec.writer.RawDocumentWriter;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
@@ -36,15 +49,23 @@ import dev.morphia.query.ValidationException;
 import dev.morphia.query.experimental.updates.UpdateOperators;
 import dev.morphia.sofia.Sofia;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeSet;
 
 import static dev.morphia.query.experimental.filters.Filters.eq;
 import static java.lang.String.format;
@@ -304,14 +325,19 @@ public class DatastoreImpl implements AdvancedDatastore {
         document.remove("_id");
 
         final Query<T> query = (Query<T>) find(entity.getClass()).filter(eq("_id", id));
-        if (!tryVersionedUpdate(entity, mapper.getCollection(entity.getClass()), options)) {
-            UpdateResult execute = query.update(UpdateOperators.set(entity))
-                                        .execute(new UpdateOptions()
-                                                     .clientSession(findSession(options))
-                                                     .writeConcern(options.writeConcern()));
-            if (execute.getModifiedCount() != 1) {
-                throw new UpdateException("Nothing updated");
+        try {
+            if (!tryVersionedUpdate(entity, mapper.getCollection(entity.getClass()), options)) {
+                UpdateResult execute = query.update(UpdateOperators.set(entity))
+                                            .execute(new UpdateOptions()
+                                                         .clientSession(findSession(options))
+                                                         .writeConcern(options.writeConcern()));
+                if (execute.getModifiedCount() != 1) {
+                    throw new UpdateException("Nothing updated");
+                }
             }
+        } finally {
+            forget(entity);
+            invalidateCache(entity, findSession(options));
         }
 
         return query.iterator().next();
@@ -359,36 +385,25 @@ public class DatastoreImpl implements AdvancedDatastore {
             return List.of();
         }
 
-        Map<MongoCollection, List<T>> grouped = new LinkedHashMap<>();
-        List<T> list = new ArrayList<>();
+        Map<MongoCollection<T>, List<T>> grouped = new LinkedHashMap<>();
         for (T entity : entities) {
-            Class<?> type = entity.getClass();
-
-            EntityModel model = getMapper().getEntityModel(type);
-            if (getMapper().getId(entity) != null || model.getVersionProperty() != null) {
-                list.add(entity);
-            } else {
-                grouped.computeIfAbsent(mapper.getCollection(type), c -> new ArrayList<>())
-                       .add(entity);
+            if (entity == null) {
+                throw new UpdateException(Sofia.cannotPersistNullEntity());
             }
+            grouped.computeIfAbsent(mapper.getCollection((Class<T>) entity.getClass()), c -> new ArrayList<>())
+                   .add(entity);
         }
 
-        for (Entry<MongoCollection, List<T>> entry : grouped.entrySet()) {
-            MongoCollection<T> collection = entry.getKey();
-            ClientSession clientSession = options.clientSession();
-            if (clientSession == null) {
-                collection.insertMany(entry.getValue(), options.getOptions());
-            } else {
-                collection.insertMany(clientSession, entry.getValue(), options.getOptions());
+        try {
+            for (Entry<MongoCollection<T>, List<T>> entry : grouped.entrySet()) {
+                bulkSave(entry.getKey(), entry.getValue(), options);
+            }
+        } finally {
+            ClientSession session = findSession(options);
+            for (T entity : entities) {
+                forget(entity);
+                invalidateCache(entity, session);
             }
-        }
-
-        InsertOneOptions insertOneOptions = new InsertOneOptions()
-                                                .bypassDocumentValidation(options.getBypassDocumentValidation())
-                                                .clientSession(findSession(options))
-                                                .writeConcern(options.writeConcern());
-        for (T entity : list) {
-            save(entity, insertOneOptions);
         }
         return entities;
     }
@@ -493,6 +508,135 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
     }
 
+    /**
+     * Saves entities of a single type with one bulk write.  Versioned entities are updated, just as {@link #save(Object)} does, with a
+     * {@code $set} of their mapped properties matching on the version they were loaded with.  The bulk result only counts the matches so
+     * when fewer updates matched than were sent, the documents are read back and any which do not hold what this save wrote were stale.
+     * Those entities have their versions restored.
+     */
+    private <T> void bulkSave(MongoCollection<T> collection, List<T> entities, InsertManyOptions options) {
+        Class<?> type = entities.get(0).getClass();
+        PropertyModel idField = mapper.findIdProperty(type);
+        PropertyModel versionField = mapper.getEntityModel(type).getVersionProperty();
+
+        List<WriteModel<T>> writes = new ArrayList<>(entities.size());
+        List<Long> oldVersions = new ArrayList<>();
+        Map<Integer, RawBsonDocument> updates = new LinkedHashMap<>();
+        for (T entity : entities) {
+            Object id = idField.getValue(entity);
+            if (versionField == null) {
+                writes.add(id == null
+                           ? new InsertOneModel<>(entity)
+                           : new ReplaceOneModel<>(new Document("_id", id), entity, new ReplaceOptions().upsert(true)));
+            } else {
+                Long oldVersion = (Long) versionField.getValue(entity);
+                long newVersion = oldVersion == null ? 1L : oldVersion + 1;
+                oldVersions.add(oldVersion);
+                updateVersion(entity, versionField, newVersion);
+                if (id == null || newVersion == 1) {
+                    writes.add(new InsertOneModel<>(entity));
+                } else {
+                    RawBsonDocument document = encode(collection, entity);
+                    BsonDocument set = new BsonDocument();
+                    document.forEach((name, value) -> {
+                        if (!name.equals("_id")) {
+                            set.append(name, value);
+                        }
+                    });
+                    updates.put(writes.size(), document);
+                    writes.add(new UpdateOneModel<>(new Document("_id", id).append(versionField.getMappedName(), oldVersion),
+                        new BsonDocument("$set", set)));
+                }
+            }
+        }
+
+        BulkWriteOptions bulkWriteOptions = new BulkWriteOptions()
+                                                .ordered(options.isOrdered())
+                                                .bypassDocumentValidation(options.getBypassDocumentValidation());
+        MongoCollection<T> prepared = options.prepare(collection);
+        ClientSession session = findSession(options);
+        TreeSet<Integer> failed = new TreeSet<>();
+        MongoBulkWriteException failure = null;
+        BulkWriteResult result;
+        try {
+            result = session == null
+                     ? prepared.bulkWrite(writes, bulkWriteOptions)
+                     : prepared.bulkWrite(session, writes, bulkWriteOptions);
+        } catch (MongoBulkWriteException e) {
+            if (versionField == null) {
+                throw e;
+            }
+            failure = e;
+            result = e.getWriteResult();
+            for (BulkWriteError writeError : e.getWriteErrors()) {
+                failed.add(writeError.getIndex());
+            }
+            if (options.isOrdered() && !failed.isEmpty()) {
+                // an ordered write stops at the first error
+                for (int i = failed.first() + 1; i < writes.size(); i++) {
+                    failed.add(i);
+                }
+            }
+        }
+        if (versionField == null) {
+            return;
+        }
+        Map<Integer, RawBsonDocument> attempted = new LinkedHashMap<>(updates);
+        attempted.keySet().removeAll(failed);
+        if (result.wasAcknowledged() && result.getMatchedCount() < attempted.size()) {
+            failed.addAll(findUnmatched(collection, session, attempted));
+        }
+        for (Integer index : failed) {
+            updateVersion(entities.get(index), versionField, oldVersions.get(index));
+        }
+        if (failure != null && failure.getWriteErrors().stream()
+                                      .anyMatch(error -> ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY)) {
+            throw failure;
+        }
+        if (!failed.isEmpty()) {
+            T entity = entities.get(failed.first());
+            throw new VersionMismatchException(entity.getClass(), idField.getValue(entity));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> RawBsonDocument encode(MongoCollection<T> collection, T entity) {
+        RawDocumentWriter writer = new RawDocumentWriter();
+        ((Codec<T>) collection.getCodecRegistry().get(entity.getClass()))
+            .encode(writer, entity, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+        return writer.getDocument();
+    }
+
+    /**
+     * Finds the versioned updates of a bulk save which did not match.  A document still holding every value the update set, including
+     * its new version, was written by it.  Any other document, or a missing one, was stale.
+     *
+     * @param updates the documents written keyed by the index of their write
+     * @return the indexes of the writes which did not match
+     */
+    private <T> List<Integer> findUnmatched(MongoCollection<T> collection, @Nullable ClientSession session,
+                                            Map<Integer, RawBsonDocument> updates) {
+        BsonArray ids = new BsonArray();
+        updates.values().forEach(document -> ids.add(document.get("_id")));
+        MongoCollection<BsonDocument> documents = collection.withDocumentClass(BsonDocument.class)
+                                                            .withReadPreference(ReadPreference.primary());
+        BsonDocument filter = new BsonDocument("_id", new BsonDocument("$in", ids));
+        Map<BsonValue, BsonDocument> stored = new HashMap<>();
+        for (BsonDocument document : session == null ? documents.find(filter) : documents.find(session, filter)) {
+            stored.put(document.get("_id"), document);
+        }
+
+        List<Integer> unmatched = new ArrayList<>();
+        for (Entry<Integer, RawBsonDocument> entry : updates.entrySet()) {
+            BsonDocument document = stored.get(entry.getValue().get("_id"));
+            if (document == null || !entry.getValue().entrySet().stream()
+                                           .allMatch(value -> value.getValue().equals(document.get(value.getKey())))) {
+                unmatched.add(entry.getKey());
+            }
+        }
+        return unmatched;
+    }
+
     private <T> T doTransaction(MorphiaSession morphiaSession, MorphiaTransaction<T> body) {
         try (morphiaSession) {
             ClientSession session = morphiaSession.getSession();
@@ -538,8 +682,32 @@ public class DatastoreImpl implements AdvancedDatastore {
             throw new UpdateException(Sofia.cannotPersistNullEntity());
         }
 
-        if (!tryVersionedUpdate(entity, collection, options)) {
-            saveDocument(entity, collection, options);
+        try {
+            if (!tryDeltaUpdate(entity, collection, options) && !tryVersionedUpdate(entity, collection, options)) {
+                saveDocument(entity, collection, options);
+            }
+        } finally {
+            invalidateCache(entity, findSession(options));
+        }
+    }
+
+    /**
+     * Stops tracking changes to an entity written in full so the next save does not diff against what it was loaded from.
+     */
+    private <T> void forget(T entity) {
+        EntitySnapshots snapshots = mapper.getSnapshots();
+        if (snapshots != null) {
+            snapshots.remove(entity);
+        }
+    }
+
+    private <T> void invalidateCache(T entity, @Nullable ClientSession session) {
+        EntityCache cache = mapper.getEntityCache(entity.getClass());
+        if (cache != null) {
+            Object id = mapper.getId(entity);
+            if (id != null) {
+                cache.invalidate(id, session);
+            }
         }
     }
 
@@ -611,6 +779,80 @@ public class DatastoreImpl implements AdvancedDatastore {
         return true;
     }
 
+    /**
+     * Saves a loaded entity with an update of only what changed since it was loaded.  Versioned entities are matched on the version they
+     * were loaded with just as {@link #tryVersionedUpdate(Object, MongoCollection, InsertOneOptions)} does.
+     *
+     * @return false if the entity is not tracked or must be written in full
+     */
+    @SuppressWarnings("unchecked")
+    private <T> boolean tryDeltaUpdate(T entity, MongoCollection collection, InsertOneOptions options) {
+        EntitySnapshots snapshots = mapper.getSnapshots();
+        RawBsonDocument snapshot = snapshots != null ? snapshots.get(entity) : null;
+        if (snapshot == null) {
+            return false;
+        }
+        final EntityModel model = mapper.getEntityModel(entity.getClass());
+        final PropertyModel versionField = model.getVersionProperty();
+        final Object idValue = mapper.findIdProperty(entity.getClass()).getValue(entity);
+        Long oldVersion = versionField != null ? (Long) versionField.getValue(entity) : null;
+        if (idValue == null || versionField != null && oldVersion == null) {
+            snapshots.remove(entity);
+            return false;
+        }
+
+        boolean saved = false;
+        try {
+            if (versionField != null) {
+                updateVersion(entity, versionField, oldVersion + 1);
+            }
+            RawDocumentWriter writer = new RawDocumentWriter();
+            ((Codec<T>) collection.getCodecRegistry().get(entity.getClass()))
+                .encode(writer, entity, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+            RawBsonDocument current = writer.getDocument();
+            BsonDocument update = EntitySnapshots.diff(snapshot, current, name -> {
+                PropertyModel property = model.getProperty(name);
+                // load names and properties which are never written are left alone
+                return property != null && property.getMappedName().equals(name) && property.shouldSerialize(Boolean.TRUE);
+            });
+            if (writer.hasDuplicateNames() || update.containsKey("$set") && update.getDocument("$set").containsKey("_id")) {
+                // the id changed so the snapshot describes some other document
+                snapshots.remove(entity);
+                return false;
+            }
+            if (update.isEmpty()) {
+                saved = true;
+                return true;
+            }
+
+            Document filter = new Document("_id", idValue);
+            if (versionField != null) {
+                filter.append(versionField.getMappedName(), oldVersion);
+            }
+            UpdateOptions updateOptions = new UpdateOptions().bypassDocumentValidation(options.getBypassDocumentValidation());
+            ClientSession session = findSession(options);
+            MongoCollection<T> prepared = options.prepare(collection);
+            UpdateResult result = session == null
+                                  ? prepared.updateOne(filter, update, updateOptions)
+                                  : prepared.updateOne(session, filter, update, updateOptions);
+            if (result.getMatchedCount() == 0) {
+                if (versionField != null) {
+                    throw new VersionMismatchException(entity.getClass(), idValue);
+                }
+                // the document is gone so write it in full
+                snapshots.remove(entity);
+                return false;
+            }
+            snapshots.put(entity, current);
+            saved = true;
+            return true;
+        } finally {
+            if (!saved && versionField != null) {
+                updateVersion(entity, versionField, oldVersion);
+            }
+        }
+    }
+
     private <T> void updateVersion(T entity, PropertyModel property, @Nullable Long newVersion) {
         property.setValue(entity, newVersion);
     }
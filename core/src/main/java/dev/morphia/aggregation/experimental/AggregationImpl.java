@@ -40,12 +40,14 @@ import dev.morphia.aggregation.experimental.stages.Unwind;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.mapping.codec.writer.RawDocumentWriter;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.internal.MorphiaCursor;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -287,14 +289,23 @@ public class AggregationImpl<T> implements Aggregation<T> {
         return this;
     }
 
+    /**
+     * Stages are encoded straight to BSON unless one repeats a name within a document, in which case it is built as a Document so the
+     * values are merged.
+     */
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private List<Document> getDocuments() {
+    private List<Bson> getDocuments() {
         return stages.stream()
                      .map(s -> {
                          Codec codec = datastore.getMapper().getCodecRegistry().get(s.getClass());
+                         RawDocumentWriter raw = new RawDocumentWriter();
+                         codec.encode(raw, s, EncoderContext.builder().build());
+                         if (!raw.hasDuplicateNames()) {
+                             return raw.getDocument();
+                         }
                          DocumentWriter writer = new DocumentWriter();
                          codec.encode(writer, s, EncoderContext.builder().build());
-                         return writer.getDocument();
+                         return (Bson) writer.getDocument();
                      })
                      .collect(Collectors.toList());
     }
@@ -0,0 +1,34 @@
+package dev.morphia.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity as cacheable.  Lookups by id, whether from {@code find(type).filter(eq("_id", id)).first()} or from resolving
+ * references, are then served from a cache held by the {@link dev.morphia.mapping.Mapper} for the entity's collection.  Writes made
+ * through morphia evict the entities they touch.  Writes made any other way are only seen once their entries expire, so this is best
+ * suited to small, rarely changing data.
+ *
+ * @morphia.experimental
+ * @see dev.morphia.mapping.Mapper#getEntityCache(Class)
+ * @since 2.2
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+public @interface Cacheable {
+    /**
+     * @return the number of seconds an entry is kept after it is loaded.  Entries never expire when this is zero or less.
+     */
+    long expireAfterSeconds() default -1;
+
+    /**
+     * @return the maximum number of entries to hold.  The least recently used entry is evicted once this is reached.
+     */
+    int maxSize() default 1000;
+}
@@ -0,0 +1,28 @@
+package dev.morphia.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Loads an entity lazily.  Instead of decoding every property when a document is read, the raw document is kept and each property is
+ * decoded the first time it is read.  This can save a lot of work when only a few properties of a large entity are used.  The same can be
+ * asked of a single query with {@link dev.morphia.query.FindOptions#lazyLoad(boolean)}.
+ * <p>
+ * Lazy entities are instances of a generated subclass.  Calling a getter or setter named after a property decodes only that property and
+ * calling any other method decodes all of them, so a getter should read only its own property.  Fields read directly from outside the
+ * entity and final methods can not be intercepted and see a property unset until it is loaded.  Types which are not public, are final,
+ * lack a public or protected no argument constructor or have {@link PreLoad} or {@link PostLoad} callbacks are always decoded eagerly.
+ *
+ * @morphia.experimental
+ * @since 2.2
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+public @interface LazyLoad {
+}
@@ -0,0 +1,238 @@
+package dev.morphia.internal;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.lang.Nullable;
+import org.bson.RawBsonDocument;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Caches the documents of {@link dev.morphia.annotations.Cacheable} entities by id.  Documents are kept in their raw form and decoded on
+ * every hit so callers never share an instance.  Entries are evicted in least recently used order and, optionally, once they reach a
+ * maximum age.
+ * <p>
+ * A document read from the server may already be stale if a write was made while it was in flight.  Callers take a {@link #stamp()}
+ * before reading and pass it to {@link #put(Object, RawBsonDocument, long)} which drops the document if anything was invalidated since.
+ * <p>
+ * A write made in a transaction is not visible to other readers until the transaction commits so evicting its documents once is not
+ * enough: a reader outside the transaction could cache the old document again before the commit.  Such writes place a hold instead which
+ * keeps the documents out of the cache until the transaction has ended.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class EntityCache {
+    private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final List<Hold> holds = new ArrayList<>();
+    private final int maxSize;
+    private final long expireAfterNanos;
+    private long stamp;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a cache
+     *
+     * @param maxSize     the maximum number of entries to hold
+     * @param expireAfter how long entries are kept.  Entries never expire when this is zero or less.
+     * @param unit        the unit of {@code expireAfter}
+     */
+    public EntityCache(int maxSize, long expireAfter, TimeUnit unit) {
+        this.maxSize = maxSize;
+        this.expireAfterNanos = expireAfter > 0 ? unit.toNanos(expireAfter) : 0;
+    }
+
+    /**
+     * Gets the cached document for an id
+     *
+     * @param id the id
+     * @return the document or null if it is not cached or has expired
+     */
+    @Nullable
+    public synchronized RawBsonDocument get(Object id) {
+        Entry entry = entries.get(id);
+        if (entry != null && entry.isExpired(System.nanoTime())) {
+            entries.remove(id);
+            evictions++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.document;
+    }
+
+    /**
+     * @return the number of entries evicted because the cache was full or they expired
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return the number of lookups served from the cache
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups which had to go to the server
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Evicts the document for an id
+     *
+     * @param id the id
+     */
+    public synchronized void invalidate(Object id) {
+        stamp++;
+        entries.remove(id);
+    }
+
+    /**
+     * Evicts every document.  This is used when a write might have touched any entity in the collection.
+     */
+    public synchronized void invalidateAll() {
+        stamp++;
+        entries.clear();
+    }
+
+    /**
+     * Evicts the document for an id after a write.  If the write was made in a transaction the document is kept out of the cache until
+     * the transaction ends.
+     *
+     * @param id      the id
+     * @param session the session the write was made in, if any
+     */
+    public void invalidate(Object id, @Nullable ClientSession session) {
+        if (session != null && session.hasActiveTransaction()) {
+            hold(id, session::hasActiveTransaction);
+        } else {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * Evicts every document after a write.  If the write was made in a transaction nothing is cached until the transaction ends.
+     *
+     * @param session the session the write was made in, if any
+     */
+    public void invalidateAll(@Nullable ClientSession session) {
+        if (session != null && session.hasActiveTransaction()) {
+            hold(null, session::hasActiveTransaction);
+        } else {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Evicts a document, or every document, and keeps it out of the cache for as long as a transaction is open.  Holds are checked, and
+     * those whose transaction has ended dropped, each time a document is cached.
+     *
+     * @param id   the id or null to hold every document
+     * @param open reports whether the transaction holding the documents is still open
+     */
+    public synchronized void hold(@Nullable Object id, BooleanSupplier open) {
+        stamp++;
+        if (id != null) {
+            entries.remove(id);
+        } else {
+            entries.clear();
+        }
+        holds.add(new Hold(id, open));
+    }
+
+    /**
+     * Caches a document unless something was invalidated after the stamp was taken
+     *
+     * @param id       the id
+     * @param document the document
+     * @param stamp    the stamp taken before the document was read
+     * @see #stamp()
+     */
+    public synchronized void put(Object id, RawBsonDocument document, long stamp) {
+        releaseEnded();
+        if (stamp != this.stamp || isHeld(id)) {
+            return;
+        }
+        long now = System.nanoTime();
+        entries.put(id, new Entry(document, expireAfterNanos > 0 ? now + expireAfterNanos : 0));
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * @return the number of cached documents
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return a value which changes whenever anything is invalidated
+     */
+    public synchronized long stamp() {
+        return stamp;
+    }
+
+    private boolean isHeld(Object id) {
+        for (Hold hold : holds) {
+            if (hold.id == null || hold.id.equals(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops the holds of transactions which have ended.  A document read while one was open may predate its commit so the stamp moves on
+     * to stop those being cached.
+     */
+    private void releaseEnded() {
+        if (holds.removeIf(hold -> !hold.open.getAsBoolean())) {
+            stamp++;
+        }
+    }
+
+    private static final class Hold {
+        @Nullable
+        private final Object id;
+        private final BooleanSupplier open;
+
+        private Hold(@Nullable Object id, BooleanSupplier open) {
+            this.id = id;
+            this.open = open;
+        }
+    }
+
+    private static final class Entry {
+        private final RawBsonDocument document;
+        private final long expiresAt;
+
+        private Entry(RawBsonDocument document, long expiresAt) {
+            this.document = document;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+    }
+}
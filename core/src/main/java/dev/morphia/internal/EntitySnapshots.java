@@ -0,0 +1,250 @@
+package dev.morphia.internal;
+
+import com.mongodb.lang.Nullable;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Holds the documents loaded entities were decoded from so a later save can send only what changed.  Entities are held weakly and by
+ * identity so tracking never keeps an entity alive or depends on its {@code equals()}.
+ *
+ * @morphia.internal
+ * @see dev.morphia.mapping.MapperOptions.Builder#trackChanges(boolean)
+ * @since 2.2
+ */
+public class EntitySnapshots {
+    private final Map<Key, RawBsonDocument> snapshots = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * Computes the update that turns one document in to another.  Only top level fields are compared.  Fields that differ are set,
+     * fields that are gone are unset and arrays whose old elements are unchanged have the new elements pushed.  A field missing from the
+     * new document is only unset if it is one the entity writes.  Others, such as unmapped or load only fields, are never encoded so
+     * their absence says nothing about their value.
+     *
+     * @param before    the document as it was loaded
+     * @param after     the document as it is now
+     * @param removable tests whether a field missing from {@code after} should be unset
+     * @return the update which is empty if nothing changed
+     */
+    public static BsonDocument diff(RawBsonDocument before, RawBsonDocument after, Predicate<String> removable) {
+        ByteBuffer beforeBuffer = before.getByteBuffer().asNIO();
+        ByteBuffer afterBuffer = after.getByteBuffer().asNIO();
+        Map<String, Slice> old = slices(beforeBuffer);
+
+        BsonDocument set = new BsonDocument();
+        BsonDocument push = new BsonDocument();
+        for (Entry<String, Slice> entry : slices(afterBuffer).entrySet()) {
+            String name = entry.getKey();
+            Slice current = entry.getValue();
+            Slice previous = old.remove(name);
+            if (previous != null && previous.matches(beforeBuffer, current, afterBuffer)) {
+                continue;
+            }
+            int appendFrom = previous != null ? appendedFrom(beforeBuffer, previous, afterBuffer, current) : -1;
+            if (appendFrom >= 0) {
+                List<BsonValue> appended = new ArrayList<>();
+                Iterator<BsonValue> values = after.get(name).asArray().iterator();
+                for (int i = 0; values.hasNext(); i++) {
+                    BsonValue value = values.next();
+                    if (i >= appendFrom) {
+                        appended.add(value);
+                    }
+                }
+                push.append(name, new BsonDocument("$each", new BsonArray(appended)));
+            } else {
+                set.append(name, after.get(name));
+            }
+        }
+
+        BsonDocument update = new BsonDocument();
+        if (!set.isEmpty()) {
+            update.append("$set", set);
+        }
+        BsonDocument unset = new BsonDocument();
+        for (String name : old.keySet()) {
+            if (removable.test(name)) {
+                unset.append(name, new BsonString(""));
+            }
+        }
+        if (!unset.isEmpty()) {
+            update.append("$unset", unset);
+        }
+        if (!push.isEmpty()) {
+            update.append("$push", push);
+        }
+        return update;
+    }
+
+    /**
+     * Gets the document an entity was last loaded from or saved as
+     *
+     * @param entity the entity
+     * @return the document or null if the entity is not tracked
+     */
+    @Nullable
+    public RawBsonDocument get(Object entity) {
+        expunge();
+        return snapshots.get(new Key(entity, null));
+    }
+
+    /**
+     * Records the document an entity was loaded from or saved as
+     *
+     * @param entity   the entity
+     * @param document the document
+     */
+    public void put(Object entity, RawBsonDocument document) {
+        expunge();
+        snapshots.put(new Key(entity, queue), document);
+    }
+
+    /**
+     * Stops tracking an entity
+     *
+     * @param entity the entity
+     */
+    public void remove(Object entity) {
+        snapshots.remove(new Key(entity, null));
+    }
+
+    /**
+     * @return the number of entities tracked
+     */
+    public int size() {
+        expunge();
+        return snapshots.size();
+    }
+
+    /**
+     * Finds the index of the first appended element if {@code current} is the array in {@code previous} with elements added to the end.
+     *
+     * @return the index or -1 if the values are not both arrays or the existing elements changed
+     */
+    private static int appendedFrom(ByteBuffer beforeBuffer, Slice previous, ByteBuffer afterBuffer, Slice current) {
+        if (previous.type != BsonType.ARRAY || current.type != BsonType.ARRAY) {
+            return -1;
+        }
+        List<Slice> oldElements = new ArrayList<>(elements(beforeBuffer, previous).values());
+        List<Slice> newElements = new ArrayList<>(elements(afterBuffer, current).values());
+        if (newElements.size() <= oldElements.size()) {
+            return -1;
+        }
+        for (int i = 0; i < oldElements.size(); i++) {
+            if (!oldElements.get(i).matches(beforeBuffer, newElements.get(i), afterBuffer)) {
+                return -1;
+            }
+        }
+        return oldElements.size();
+    }
+
+    private static Map<String, Slice> elements(ByteBuffer buffer, Slice array) {
+        ByteBuffer value = buffer.duplicate();
+        value.position(array.valueStart).limit(array.end);
+        // the positions read from a slice are relative to it so shift them back to the positions in the full buffer
+        Map<String, Slice> elements = slices(value.slice());
+        for (Slice element : elements.values()) {
+            element.shift(array.valueStart);
+        }
+        return elements;
+    }
+
+    private static Map<String, Slice> slices(ByteBuffer buffer) {
+        Map<String, Slice> slices = new LinkedHashMap<>();
+        try (BsonBinaryReader reader = new BsonBinaryReader(buffer.duplicate())) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                String name = reader.readName();
+                BsonType type = reader.getCurrentBsonType();
+                int valueStart = reader.getBsonInput().getPosition();
+                reader.skipValue();
+                int end = reader.getBsonInput().getPosition();
+                slices.put(name, new Slice(type, valueStart, end));
+            }
+        }
+        return slices;
+    }
+
+    private void expunge() {
+        Object key;
+        while ((key = queue.poll()) != null) {
+            snapshots.remove(key);
+        }
+    }
+
+    /**
+     * The type and position of one value in a document.  Values are compared by their encoded bytes.
+     */
+    private static final class Slice {
+        private final BsonType type;
+        private int valueStart;
+        private int end;
+
+        private Slice(BsonType type, int valueStart, int end) {
+            this.type = type;
+            this.valueStart = valueStart;
+            this.end = end;
+        }
+
+        private boolean matches(ByteBuffer buffer, Slice other, ByteBuffer otherBuffer) {
+            if (type != other.type || end - valueStart != other.end - other.valueStart) {
+                return false;
+            }
+            return range(buffer, valueStart, end).equals(range(otherBuffer, other.valueStart, other.end));
+        }
+
+        private void shift(int offset) {
+            valueStart += offset;
+            end += offset;
+        }
+
+        private static ByteBuffer range(ByteBuffer buffer, int from, int to) {
+            ByteBuffer range = buffer.duplicate();
+            range.position(from).limit(to);
+            return range;
+        }
+    }
+
+    private static final class Key extends WeakReference<Object> {
+        private final int hash;
+
+        private Key(Object entity, @Nullable ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            hash = System.identityHashCode(entity);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((Key) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package dev.morphia.internal;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the results of {@link PathTarget} resolution.  Entries are keyed by the root model, the path, and whether names are validated.
+ * Paths which fail validation are never cached.  Once the cache reaches its maximum size it is cleared rather than tracking usage on
+ * every lookup.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class PathCache {
+    /**
+     * The default maximum number of entries
+     */
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final Map<Key, Resolved> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache with the default maximum size
+     */
+    public PathCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache
+     *
+     * @param maxSize the maximum number of entries to hold
+     */
+    public PathCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Removes all entries.  This is needed whenever new types are mapped since a path might resolve through a new subtype.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * @return the number of lookups served from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups which needed the path to be resolved
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of cached paths
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    @Nullable
+    Resolved get(EntityModel root, String path, boolean validateNames) {
+        Resolved resolved = cache.get(new Key(root, path, validateNames));
+        if (resolved != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return resolved;
+    }
+
+    void put(EntityModel root, String path, boolean validateNames, String translatedPath, @Nullable PropertyModel target) {
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+        cache.put(new Key(root, path, validateNames), new Resolved(translatedPath, target));
+    }
+
+    static final class Resolved {
+        private final String translatedPath;
+        private final PropertyModel target;
+
+        private Resolved(String translatedPath, @Nullable PropertyModel target) {
+            this.translatedPath = translatedPath;
+            this.target = target;
+        }
+
+        String getTranslatedPath() {
+            return translatedPath;
+        }
+
+        @Nullable
+        PropertyModel getTarget() {
+            return target;
+        }
+    }
+
+    private static final class Key {
+        private final EntityModel root;
+        private final String path;
+        private final boolean validateNames;
+
+        private Key(EntityModel root, String path, boolean validateNames) {
+            this.root = root;
+            this.path = path;
+            this.validateNames = validateNames;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(root);
+            result = 31 * result + path.hashCode();
+            return 31 * result + (validateNames ? 1 : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return root == that.root && validateNames == that.validateNames && path.equals(that.path);
+        }
+    }
+}
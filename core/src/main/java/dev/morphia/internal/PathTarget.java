@@ -35,8 +35,10 @@ import static java.util.Arrays.asList;
  * @since 1.3
  */
 public class PathTarget {
-    private final List<String> segments;
+    private final String path;
     private final boolean validateNames;
+    private List<String> segments;
+    private String translatedPath;
     private int position;
     private final Mapper mapper;
     private final EntityModel root;
@@ -64,11 +66,14 @@ public class PathTarget {
      * @param validateNames true if names should be validated
      */
     public PathTarget(Mapper mapper, @Nullable EntityModel root, String path, boolean validateNames) {
-        segments = asList(path.split("\\."));
+        this.path = path;
         this.root = root;
         this.mapper = mapper;
         this.validateNames = validateNames;
-        resolved = path.startsWith("$");
+        if (path.startsWith("$")) {
+            translatedPath = path;
+            resolved = true;
+        }
     }
 
     /**
@@ -105,9 +110,7 @@ public class PathTarget {
         if (!resolved) {
             resolve();
         }
-        StringJoiner joiner = new StringJoiner(".");
-        segments.forEach(joiner::add);
-        return joiner.toString();
+        return translatedPath;
     }
 
     /**
@@ -125,7 +128,21 @@ public class PathTarget {
 
     @Override
     public String toString() {
-        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(), segments, target);
+        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(),
+            segments != null ? segments : asList(path.split("\\.")), target);
+    }
+
+    private static boolean isArrayOperator(String segment) {
+        if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]"))) {
+            return true;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return !segment.isEmpty();
     }
 
     private boolean hasNext() {
@@ -133,6 +150,24 @@ public class PathTarget {
     }
 
     private void resolve() {
+        PathCache cache = root != null ? mapper.getPathCache() : null;
+        if (cache != null) {
+            PathCache.Resolved cached = cache.get(root, path, validateNames);
+            if (cached != null) {
+                translatedPath = cached.getTranslatedPath();
+                target = cached.getTarget();
+                resolved = true;
+                return;
+            }
+        }
+        walk();
+        if (cache != null) {
+            cache.put(root, path, validateNames, translatedPath, target);
+        }
+    }
+
+    private void walk() {
+        segments = asList(path.split("\\."));
         context = this.root;
         position = 0;
         PropertyModel property = null;
@@ -140,7 +175,7 @@ public class PathTarget {
             String segment = next();
 
             // array operator
-            if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]")) || segment.matches("[0-9]+")) {
+            if (isArrayOperator(segment)) {
                 if (!hasNext()) {
                     break;
                 }
@@ -163,10 +198,18 @@ public class PathTarget {
             }
         }
         target = property;
+        translatedPath = join();
         resolved = true;
     }
 
+    private String join() {
+        StringJoiner joiner = new StringJoiner(".");
+        segments.forEach(joiner::add);
+        return joiner.toString();
+    }
+
     private void failValidation() {
+        translatedPath = join();
         resolved = true;
         throw new ValidationException(Sofia.invalidPathTarget(translatedPath(), root.getType().getName()));
     }
@@ -0,0 +1,104 @@
+package dev.morphia.mapping;
+
+import com.mongodb.lang.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads the entity index written by {@link EntityIndexProcessor}.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+final class EntityIndex {
+    /**
+     * The classpath location of the index
+     */
+    static final String LOCATION = "META-INF/morphia/entities";
+
+    private static final Logger LOG = LoggerFactory.getLogger(EntityIndex.class);
+
+    private EntityIndex() {
+    }
+
+    /**
+     * Finds the indexed types in a package.  An index only covers the classpath root, the directory or jar, it was compiled in to so
+     * the indexes are only used if every root holding the package has one.  Otherwise a root without an index could hold types in the
+     * package which would be missed.
+     *
+     * @param loader         the class loader to read the index and load the types with
+     * @param packageName    the package to search
+     * @param mapSubPackages true if types in sub-packages should be included
+     * @return the types found or null if the indexes may not list every type in the package
+     */
+    @Nullable
+    static List<Class> find(ClassLoader loader, String packageName, boolean mapSubPackages) {
+        Set<String> names = new LinkedHashSet<>();
+        Set<String> indexedRoots = new HashSet<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                indexedRoots.add(root(url, LOCATION));
+                read(url, packageName, mapSubPackages, names);
+            }
+            String path = packageName.replace('.', '/');
+            Set<String> packageRoots = new HashSet<>();
+            Enumeration<URL> packages = loader.getResources(path);
+            while (packages.hasMoreElements()) {
+                packageRoots.add(root(packages.nextElement(), path));
+            }
+            // jars without directory entries do not show up as holding the package so not finding it at all can not be trusted either
+            if (packageRoots.isEmpty() || !indexedRoots.containsAll(packageRoots)) {
+                LOG.debug("Scanning '{}' since not every classpath root holding it has an entity index", packageName);
+                return null;
+            }
+        } catch (IOException e) {
+            throw new MappingException("Could not read the entity index", e);
+        }
+
+        List<Class> classes = new ArrayList<>();
+        for (String name : names) {
+            try {
+                classes.add(Class.forName(name, true, loader));
+            } catch (ClassNotFoundException e) {
+                LOG.debug("Skipping '{}' listed in the entity index as it could not be loaded", name);
+            }
+        }
+        return classes;
+    }
+
+    private static String root(URL url, String path) {
+        String location = url.toString();
+        if (location.endsWith("/")) {
+            location = location.substring(0, location.length() - 1);
+        }
+        return location.endsWith(path) ? location.substring(0, location.length() - path.length()) : location;
+    }
+
+    private static void read(URL url, String packageName, boolean mapSubPackages, Set<String> names) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String name = line.trim();
+                int lastDot = name.lastIndexOf('.');
+                String typePackage = lastDot != -1 ? name.substring(0, lastDot) : "";
+                if (typePackage.equals(packageName) || mapSubPackages && typePackage.startsWith(packageName + ".")) {
+                    names.add(name);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package dev.morphia.mapping;
+
+import dev.morphia.annotations.Embedded;
+import dev.morphia.annotations.Entity;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Records every type annotated with {@link Entity} or {@link Embedded}, or extending or implementing such a type, in
+ * {@value EntityIndex#LOCATION} at compile time.  This matches the types a classpath scan would map.  With
+ * {@link MapperOptions.Builder#useEntityIndex(boolean)} enabled, {@link Mapper#mapPackage(String)} reads this index instead of scanning
+ * the classpath.  Enable the processor by naming it with javac's {@code -processor} option or by adding Morphia to the compiler's
+ * annotation processor path.
+ *
+ * @since 2.2
+ */
+@SupportedAnnotationTypes("*")
+public class EntityIndexProcessor extends AbstractProcessor {
+    private final Set<String> types = new TreeSet<>();
+    private boolean loaded;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!loaded) {
+            readExisting();
+            loaded = true;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            add(element);
+        }
+        if (roundEnv.processingOver()) {
+            write();
+        }
+        return false;
+    }
+
+    private void add(Element element) {
+        if (element instanceof TypeElement) {
+            TypeElement type = (TypeElement) element;
+            if (isMappable(type)) {
+                types.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+            }
+            for (Element enclosed : type.getEnclosedElements()) {
+                add(enclosed);
+            }
+        }
+    }
+
+    /**
+     * Mirrors the check the mapper makes when scanning: the type or one of its supertypes is annotated.
+     */
+    private boolean isMappable(TypeElement type) {
+        if (type.getAnnotation(Entity.class) != null || type.getAnnotation(Embedded.class) != null) {
+            return true;
+        }
+        List<TypeMirror> supertypes = new ArrayList<>(type.getInterfaces());
+        supertypes.add(type.getSuperclass());
+        for (TypeMirror supertype : supertypes) {
+            Element element = processingEnv.getTypeUtils().asElement(supertype);
+            if (element instanceof TypeElement && isMappable((TypeElement) element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Incremental builds only compile the changed sources so keep what a previous build recorded.  Stale entries are skipped when the
+     * index is read.
+     */
+    private void readExisting() {
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", EntityIndex.LOCATION);
+            try (Reader reader = existing.openReader(true)) {
+                new BufferedReader(reader).lines()
+                                          .map(String::trim)
+                                          .filter(line -> !line.isEmpty())
+                                          .forEach(types::add);
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // no previous index
+        }
+    }
+
+    private void write() {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", EntityIndex.LOCATION);
+            try (Writer writer = index.openWriter()) {
+                for (String type : types) {
+                    writer.write(type);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.WARNING, "Could not write the Morphia entity index: " + e.getMessage());
+        }
+    }
+}
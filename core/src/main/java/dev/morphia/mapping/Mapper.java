@@ -8,9 +8,13 @@ import dev.morphia.Datastore;
 import dev.morphia.EntityInterceptor;
 import dev.morphia.Key;
 import dev.morphia.aggregation.experimental.codecs.AggregationCodecProvider;
+import dev.morphia.annotations.Cacheable;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.experimental.EmbeddedBuilder;
+import dev.morphia.internal.EntityCache;
+import dev.morphia.internal.EntitySnapshots;
+import dev.morphia.internal.PathCache;
 import dev.morphia.mapping.codec.EnumCodecProvider;
 import dev.morphia.mapping.codec.MorphiaCodecProvider;
 import dev.morphia.mapping.codec.MorphiaTypesCodecProvider;
@@ -20,6 +24,7 @@ import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
+import dev.morphia.mapping.codec.references.ProxyClassCache;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
 import dev.morphia.mapping.validation.MappingValidator;
 import dev.morphia.sofia.Sofia;
@@ -34,7 +39,6 @@ import org.bson.codecs.configuration.CodecRegistry;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -45,6 +49,8 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static dev.morphia.sofia.Sofia.entityOrEmbedded;
@@ -64,11 +70,24 @@ public class Mapper {
      */
     public static final String IGNORED_FIELDNAME = ".";
 
+    /**
+     * Only holds what follows from the type itself and so is shared by every mapper.  Models must not be cached here: a model refers
+     * back to its mapper and datastore which the class would then keep reachable for as long as it is loaded.
+     */
+    private static final ClassValue<MappedType> MAPPED_TYPES = new ClassValue<>() {
+        @Override
+        protected MappedType computeValue(Class<?> type) {
+            Class<?> actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
+            return new MappedType(actual, hasAnnotation(actual));
+        }
+    };
+
     /**
      * Set of classes that registered by this mapper
      */
     private final Map<Class, EntityModel> mappedEntities = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Set<EntityModel>> mappedEntitiesByCollection = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Object> creationLocks = new ConcurrentHashMap<>();
 
     //EntityInterceptors; these are called after EntityListeners and lifecycle methods on an Entity, for all Entities
     private final List<EntityInterceptor> interceptors = new LinkedList<>();
@@ -77,6 +96,12 @@ public class Mapper {
     private final MorphiaCodecProvider morphiaCodecProvider;
     private final Datastore datastore;
     private final CodecRegistry codecRegistry;
+    private final CodecRegistry lazyCodecRegistry;
+    private final ProxyClassCache proxyClassCache = new ProxyClassCache();
+    private final PathCache pathCache = new PathCache();
+    private final Map<String, EntityCache> entityCaches = new ConcurrentHashMap<>();
+    private final EntitySnapshots snapshots;
+    private final ClassLoader classLoader;
 
     /**
      * Creates a Mapper with the given options.
@@ -89,6 +114,9 @@ public class Mapper {
     public Mapper(Datastore datastore, CodecRegistry codecRegistry, MapperOptions options) {
         this.datastore = datastore;
         this.options = options;
+        // resolved once, on the creating thread, since models may be mapped on pool threads with a different context class loader
+        classLoader = options.getClassLoader();
+        snapshots = options.isTrackChanges() ? new EntitySnapshots() : null;
         morphiaCodecProvider = new MorphiaCodecProvider(this, datastore);
         this.codecRegistry = fromProviders(new MorphiaTypesCodecProvider(this),
             new PrimitiveCodecRegistry(codecRegistry),
@@ -96,6 +124,7 @@ public class Mapper {
             new AggregationCodecProvider(this),
             morphiaCodecProvider,
             codecRegistry);
+        lazyCodecRegistry = fromProviders(new MorphiaCodecProvider(this, datastore, true), this.codecRegistry);
     }
 
     /**
@@ -240,6 +269,16 @@ public class Mapper {
         return codecRegistry;
     }
 
+    /**
+     * @return the codec registry which loads entities lazily where it can
+     * @morphia.internal
+     * @see dev.morphia.query.FindOptions#lazyLoad(boolean)
+     * @since 2.2
+     */
+    public CodecRegistry getLazyCodecRegistry() {
+        return lazyCodecRegistry;
+    }
+
     /**
      * @param type the type look up
      * @param <T>  the class type
@@ -247,16 +286,7 @@ public class Mapper {
      * @morphia.internal
      */
     public <T> MongoCollection<T> getCollection(Class<T> type) {
-        EntityModel entityModel = getEntityModel(type);
-        String collectionName = entityModel.getCollectionName();
-
-        MongoCollection<T> collection = datastore.getDatabase().getCollection(collectionName, type);
-
-        Entity annotation = entityModel.getEntityAnnotation();
-        if (annotation != null && WriteConcern.valueOf(annotation.concern()) != null) {
-            collection = collection.withWriteConcern(WriteConcern.valueOf(annotation.concern()));
-        }
-        return collection;
+        return getEntityModel(type).getCollection();
     }
 
     /**
@@ -278,7 +308,7 @@ public class Mapper {
                 throw new MappingException(entityOrEmbedded(type.getName()));
             }
         }
-        return classes.stream()
+        return classes.parallelStream()
                       .map(this::getEntityModel)
                       .filter(Objects::nonNull)
                       .collect(Collectors.toList());
@@ -291,14 +321,14 @@ public class Mapper {
      * @return the EntityModel for the object given
      */
     public EntityModel getEntityModel(Class type) {
-        final Class actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
-        EntityModel model = mappedEntities.get(actual);
+        MappedType mapped = MAPPED_TYPES.get(type);
+        EntityModel model = mappedEntities.get(mapped.actual);
 
         if (model == null) {
-            if (!isMappable(actual)) {
+            if (!mapped.mappable) {
                 throw new NotMappableException(type);
             }
-            model = register(createEntityModel(type));
+            model = create(mapped.actual, () -> createEntityModel(type));
         }
 
         return model;
@@ -390,6 +420,60 @@ public class Mapper {
         return options;
     }
 
+    /**
+     * Gets the cache of documents for a type.  Caches are held per collection so every type stored in a collection shares one.
+     *
+     * @param type the type
+     * @return the cache or null if the type is not {@link Cacheable} and shares its collection with no type that is
+     * @morphia.internal
+     * @since 2.2
+     */
+    @Nullable
+    public EntityCache getEntityCache(Class<?> type) {
+        if (!isMappable(type)) {
+            return null;
+        }
+        EntityModel model = getEntityModel(type);
+        String collection = model.getCollectionName();
+        if (collection == null) {
+            return null;
+        }
+        Cacheable cacheable = model.getAnnotation(Cacheable.class);
+        return cacheable != null
+               ? entityCaches.computeIfAbsent(collection,
+                   c -> new EntityCache(cacheable.maxSize(), cacheable.expireAfterSeconds(), TimeUnit.SECONDS))
+               : entityCaches.get(collection);
+    }
+
+    /**
+     * @return the documents loaded entities were decoded from or null if changes are not tracked
+     * @morphia.internal
+     * @see MapperOptions.Builder#trackChanges(boolean)
+     * @since 2.2
+     */
+    @Nullable
+    public EntitySnapshots getSnapshots() {
+        return snapshots;
+    }
+
+    /**
+     * @return the cache of resolved query and update paths
+     * @morphia.internal
+     * @since 2.2
+     */
+    public PathCache getPathCache() {
+        return pathCache;
+    }
+
+    /**
+     * @return the cache of generated lazy reference proxy classes
+     * @morphia.internal
+     * @since 2.2
+     */
+    public ProxyClassCache getProxyClassCache() {
+        return proxyClassCache;
+    }
+
     /**
      * Sets the options this Mapper should use
      *
@@ -410,16 +494,8 @@ public class Mapper {
      */
     @Nullable
     public WriteConcern getWriteConcern(Class clazz) {
-        WriteConcern wc = null;
         EntityModel entityModel = getEntityModel(clazz);
-        if (entityModel != null) {
-            final Entity entityAnn = entityModel.getEntityAnnotation();
-            if (entityAnn != null && !entityAnn.concern().isEmpty()) {
-                wc = WriteConcern.valueOf(entityAnn.concern());
-            }
-        }
-
-        return wc;
+        return entityModel != null ? entityModel.getWriteConcern() : null;
     }
 
     /**
@@ -437,8 +513,7 @@ public class Mapper {
      * @return true if the type is mappable
      */
     public <T> boolean isMappable(Class<T> type) {
-        final Class actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
-        return hasAnnotation(actual, List.of(Entity.class, Embedded.class));
+        return MAPPED_TYPES.get(type).mappable;
     }
 
     /**
@@ -464,14 +539,12 @@ public class Mapper {
      * @since 2.1
      */
     public <A extends Annotation> EntityModel mapExternal(@Nullable A annotation, Class type) {
-        final Class actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
+        final Class actual = MAPPED_TYPES.get(type).actual;
         EntityModel model = mappedEntities.get(actual);
 
         if (model == null) {
-            if (annotation == null) {
-                annotation = (A) EmbeddedBuilder.builder();
-            }
-            model = register(createEntityModel(type, annotation));
+            final A applied = annotation != null ? annotation : (A) EmbeddedBuilder.builder();
+            model = create(actual, () -> createEntityModel(type, applied));
         }
 
 
@@ -483,10 +556,10 @@ public class Mapper {
      *
      * @param packageName the name of the package to process
      */
-    public synchronized void mapPackage(String packageName) {
+    public void mapPackage(String packageName) {
         try {
-            getClasses(getClass().getClassLoader(), packageName, getOptions().isMapSubPackages())
-                .stream()
+            getClasses(classLoader, packageName, getOptions().isMapSubPackages())
+                .parallelStream()
                 .map(type -> {
                     try {
                         return getEntityModel(type);
@@ -501,6 +574,29 @@ public class Mapper {
         }
     }
 
+    /**
+     * Builds and registers a model under a lock for its type.  Building a model only maps its supertypes so these locks are always taken
+     * in the same order, and unrelated hierarchies can be built concurrently.
+     */
+    private EntityModel create(Class<?> actual, Supplier<EntityModel> factory) {
+        EntityModel model;
+        boolean created = false;
+        synchronized (creationLocks.computeIfAbsent(actual, k -> new Object())) {
+            model = mappedEntities.get(actual);
+            if (model == null) {
+                model = register(factory.get());
+                created = true;
+            }
+        }
+        if (created) {
+            // only drop the lock once the model is published.  if the factory failed, threads still waiting on this lock must share it
+            // with any arriving later so only one of them builds the model at a time.
+            creationLocks.remove(actual);
+            validate(model);
+        }
+        return model;
+    }
+
     /**
      * @param clazz the model type
      * @param <T>   type model type
@@ -586,6 +682,31 @@ public class Mapper {
         return collection;
     }
 
+    /**
+     * Gets the discriminator values a query on the model should match.  These are the model's own discriminator and, if polymorphic
+     * queries are enabled, those of its subtypes.
+     *
+     * @param model the query model
+     * @return the values or null if the model does not use discriminators
+     * @morphia.internal
+     * @since 2.2
+     */
+    @Nullable
+    public List<String> getQueryDiscriminators(EntityModel model) {
+        Entity annotation = model.getEntityAnnotation();
+        if (annotation == null || !annotation.useDiscriminator()) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        values.add(model.getDiscriminator());
+        if (options.isEnablePolymorphicQueries()) {
+            for (EntityModel subtype : model.getSubtypes()) {
+                values.add(subtype.getDiscriminator());
+            }
+        }
+        return values;
+    }
+
     /**
      * Updates a query with any discriminators from subtypes if polymorphic queries are enabled
      *
@@ -593,20 +714,11 @@ public class Mapper {
      * @param query the query document
      */
     public void updateQueryWithDiscriminators(EntityModel model, Document query) {
-        Entity annotation = model.getEntityAnnotation();
-        if (annotation != null && annotation.useDiscriminator()
-            && !query.containsKey("_id")
-            && !query.containsKey(model.getDiscriminatorKey())) {
-            List<EntityModel> subtypes = model.getSubtypes();
-            List<String> values = new ArrayList<>();
-            values.add(model.getDiscriminator());
-            if (options.isEnablePolymorphicQueries()) {
-                for (EntityModel subtype : subtypes) {
-                    values.add(subtype.getDiscriminator());
-                }
+        if (!query.containsKey("_id") && !query.containsKey(model.getDiscriminatorKey())) {
+            List<String> values = getQueryDiscriminators(model);
+            if (values != null) {
+                query.put(model.getDiscriminatorKey(), new Document("$in", values));
             }
-            query.put(model.getDiscriminatorKey(),
-                new Document("$in", values));
         }
     }
 
@@ -618,6 +730,12 @@ public class Mapper {
 
     private List<Class> getClasses(ClassLoader loader, String packageName, boolean mapSubPackages)
         throws ClassNotFoundException {
+        if (options.isUseEntityIndex()) {
+            List<Class> indexed = EntityIndex.find(loader, packageName, mapSubPackages);
+            if (indexed != null) {
+                return indexed;
+            }
+        }
         final Set<Class> classes = new HashSet<>();
 
         ClassGraph classGraph = new ClassGraph()
@@ -638,34 +756,53 @@ public class Mapper {
         return new ArrayList<>(classes);
     }
 
-    private <T> boolean hasAnnotation(Class<T> clazz, List<Class<? extends Annotation>> annotations) {
-        for (Class<? extends Annotation> annotation : annotations) {
-            if (clazz.getAnnotation(annotation) != null) {
+    private static boolean hasAnnotation(Class<?> clazz) {
+        if (clazz.getAnnotation(Entity.class) != null || clazz.getAnnotation(Embedded.class) != null) {
+            return true;
+        }
+        if (clazz.getSuperclass() != null && hasAnnotation(clazz.getSuperclass())) {
+            return true;
+        }
+        for (Class<?> anInterface : clazz.getInterfaces()) {
+            if (hasAnnotation(anInterface)) {
                 return true;
             }
         }
-
-        return clazz.getSuperclass() != null && hasAnnotation(clazz.getSuperclass(), annotations)
-               || Arrays.stream(clazz.getInterfaces())
-                        .map(i -> hasAnnotation(i, annotations))
-                        .reduce(false, (l, r) -> l || r);
+        return false;
     }
 
     private EntityModel register(EntityModel entityModel) {
         discriminatorLookup.addModel(entityModel);
-        mappedEntities.put(entityModel.getType(), entityModel);
         if (entityModel.getCollectionName() != null) {
             mappedEntitiesByCollection.computeIfAbsent(entityModel.getCollectionName(), s -> new CopyOnWriteArraySet<>())
                                       .add(entityModel);
         }
+        // publish last so that anyone finding the model here also finds it in the lookups above
+        mappedEntities.put(entityModel.getType(), entityModel);
+        pathCache.clear();
+
+        return entityModel;
+    }
 
+    private void validate(EntityModel entityModel) {
         if (!entityModel.isInterface()) {
             new MappingValidator(entityModel.getInstanceCreatorFactory().create())
                 .validate(this, entityModel);
 
         }
+    }
 
-        return entityModel;
+    /**
+     * What is known about a type: the type to map in place of any proxy and whether it can be mapped.
+     */
+    private static final class MappedType {
+        private final Class<?> actual;
+        private final boolean mappable;
+
+        private MappedType(Class<?> actual, boolean mappable) {
+            this.actual = actual;
+            this.mappable = mappable;
+        }
     }
 
 }
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static dev.morphia.mapping.MapperOptions.PropertyAccess.REFLECTION;
 import static dev.morphia.mapping.MapperOptions.PropertyDiscovery.FIELDS;
 import static org.bson.UuidRepresentation.STANDARD;
 
@@ -45,6 +46,9 @@ public class MapperOptions {
     private final UuidRepresentation uuidRepresentation;
     private final QueryFactory queryFactory;
     private final boolean enablePolymorphicQueries;
+    private final PropertyAccess propertyAccess;
+    private final boolean useEntityIndex;
+    private final boolean trackChanges;
     private ClassLoader classLoader;
 
     private MapperOptions(Builder builder) {
@@ -57,13 +61,16 @@ public class MapperOptions {
         discriminator = builder.discriminator();
         discriminatorKey = builder.discriminatorKey();
         enablePolymorphicQueries = builder.enablePolymorphicQueries();
+        propertyAccess = builder.propertyAccess();
         propertyNaming = builder.propertyNaming();
         ignoreFinals = builder.ignoreFinals();
         mapSubPackages = builder.mapSubPackages();
         queryFactory = builder.queryFactory();
         storeEmpties = builder.storeEmpties();
         storeNulls = builder.storeNulls();
+        trackChanges = builder.trackChanges();
         uuidRepresentation = builder.uuidRepresentation();
+        useEntityIndex = builder.useEntityIndex();
     }
 
     /**
@@ -87,6 +94,9 @@ public class MapperOptions {
         builder.creator = original.getCreator();
         builder.classLoader = original.getClassLoader();
         builder.dateStorage = original.getDateStorage();
+        builder.propertyAccess = original.getPropertyAccess();
+        builder.useEntityIndex = original.isUseEntityIndex();
+        builder.trackChanges = original.isTrackChanges();
         return builder;
     }
 
@@ -169,6 +179,14 @@ public class MapperOptions {
         return getPropertyNaming();
     }
 
+    /**
+     * @return the strategy used to read and write property values on entities
+     * @since 2.2
+     */
+    public PropertyAccess getPropertyAccess() {
+        return propertyAccess;
+    }
+
     /**
      * @return the naming strategy for properties unless explicitly set via @Property
      * @see Property
@@ -235,6 +253,39 @@ public class MapperOptions {
         return storeNulls;
     }
 
+    /**
+     * @return true if loaded entities are saved with only the values changed since they were loaded
+     * @since 2.2
+     */
+    public boolean isTrackChanges() {
+        return trackChanges;
+    }
+
+    /**
+     * @return true if packages are mapped using the compile time entity index
+     * @see EntityIndexProcessor
+     * @since 2.2
+     */
+    public boolean isUseEntityIndex() {
+        return useEntityIndex;
+    }
+
+    /**
+     * Defines how property values are read from and written to entities
+     *
+     * @since 2.2
+     */
+    public enum PropertyAccess {
+        /**
+         * Uses {@link java.lang.reflect.Field} and {@link java.lang.reflect.Method} reflection
+         */
+        REFLECTION,
+        /**
+         * Uses {@link java.lang.invoke.MethodHandle}s resolved once when the entity is mapped
+         */
+        METHOD_HANDLES
+    }
+
     public enum PropertyDiscovery {
         FIELDS,
         METHODS
@@ -263,6 +314,9 @@ public class MapperOptions {
         private UuidRepresentation uuidRepresentation = STANDARD;
         private QueryFactory queryFactory = new DefaultQueryFactory();
         private PropertyDiscovery propertyDiscovery = FIELDS;
+        private PropertyAccess propertyAccess = REFLECTION;
+        private boolean useEntityIndex;
+        private boolean trackChanges;
 
         private Builder() {
         }
@@ -422,6 +476,19 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Determines how property values are read from and written to mapped entities.  The default is
+         * {@link PropertyAccess#REFLECTION}.
+         *
+         * @param access the access strategy to use
+         * @return this
+         * @since 2.2
+         */
+        public Builder propertyAccess(PropertyAccess access) {
+            this.propertyAccess = access;
+            return this;
+        }
+
         /**
          * Determines how properties are discovered on mapped entities
          *
@@ -474,6 +541,23 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Keeps a copy of the document each entity was loaded from so that saving it again only sends what changed.  Changed and new
+         * properties are written with {@code $set}, removed ones with {@code $unset} and lists that only had elements appended with
+         * {@code $push}.  Versioned entities are still checked against the version they were loaded with.
+         * <p>
+         * Properties left untouched are not written so updates made to them by others since the entity was loaded are kept.  An entity
+         * with no changes and no version is not written at all.
+         *
+         * @param trackChanges true to save loaded entities with delta updates
+         * @return this
+         * @since 2.2
+         */
+        public Builder trackChanges(boolean trackChanges) {
+            this.trackChanges = trackChanges;
+            return this;
+        }
+
         /**
          * @param useLowerCaseCollectionNames if true, generated collections names are lower cased
          * @return this
@@ -487,6 +571,19 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Maps packages using the index written at compile time by {@link EntityIndexProcessor} rather than scanning the classpath.
+         * Packages with no indexed types are still scanned.
+         *
+         * @param useEntityIndex true to use the entity index
+         * @return this
+         * @since 2.2
+         */
+        public Builder useEntityIndex(boolean useEntityIndex) {
+            this.useEntityIndex = useEntityIndex;
+            return this;
+        }
+
         /**
          * Configures the UUID representation to use
          *
@@ -548,6 +645,10 @@ public class MapperOptions {
             return mapSubPackages;
         }
 
+        private PropertyAccess propertyAccess() {
+            return propertyAccess;
+        }
+
         private PropertyDiscovery propertyDiscovery() {
             return propertyDiscovery;
         }
@@ -568,6 +669,14 @@ public class MapperOptions {
             return storeNulls;
         }
 
+        private boolean trackChanges() {
+            return trackChanges;
+        }
+
+        private boolean useEntityIndex() {
+            return useEntityIndex;
+        }
+
         private UuidRepresentation uuidRepresentation() {
             return uuidRepresentation;
         }
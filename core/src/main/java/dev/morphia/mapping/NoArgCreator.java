@@ -43,4 +43,9 @@ public class NoArgCreator implements MorphiaInstanceCreator {
     public Object getInstance() {
         return instance();
     }
+
+    @Override
+    public Object getTarget() {
+        return instance();
+    }
 }
@@ -8,9 +8,13 @@ import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecConfigurationException;
 
+import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.function.IntFunction;
 
 import static java.lang.String.format;
 
@@ -21,6 +25,11 @@ import static java.lang.String.format;
 public class CollectionCodec<T> implements Codec<Collection<T>> {
     private final Class<Collection<T>> encoderClass;
     private final Codec<T> codec;
+    private IntFunction<Collection<T>> factory;
+    /**
+     * Collections are kept by the entities they are decoded for, so they are never presized beyond a small bound
+     */
+    private final SizeHint sizeHint = new SizeHint(10, 64);
 
     protected CollectionCodec(Class<Collection<T>> encoderClass, Codec<T> codec) {
         this.encoderClass = encoderClass;
@@ -57,6 +66,7 @@ public class CollectionCodec<T> implements Codec<Collection<T>> {
             }
         }
         reader.readEndArray();
+        sizeHint.update(collection.size());
         return collection;
     }
 
@@ -65,21 +75,55 @@ public class CollectionCodec<T> implements Codec<Collection<T>> {
         return encoderClass;
     }
 
+    /**
+     * Creates a new collection sized for the collections this codec usually decodes
+     *
+     * @return the new collection
+     */
     protected Collection<T> getInstance() {
+        if (factory == null) {
+            factory = factory();
+        }
+        return factory.apply(sizeHint.get());
+    }
+
+    /**
+     * Resolves how to create collections once so that decoding never needs to look up a constructor
+     */
+    private IntFunction<Collection<T>> factory() {
         if (encoderClass.isInterface()) {
             if (encoderClass.isAssignableFrom(ArrayList.class)) {
-                return new ArrayList<T>();
+                return ArrayList::new;
             } else if (encoderClass.isAssignableFrom(HashSet.class)) {
-                return new HashSet<T>();
+                return size -> new HashSet<>(capacity(size));
             } else {
                 throw new CodecConfigurationException(format("Unsupported Collection interface of %s!", encoderClass.getName()));
             }
+        } else if (encoderClass.equals(ArrayList.class)) {
+            return ArrayList::new;
+        } else if (encoderClass.equals(HashSet.class)) {
+            return size -> new HashSet<>(capacity(size));
+        } else if (encoderClass.equals(LinkedHashSet.class)) {
+            return size -> new LinkedHashSet<>(capacity(size));
+        } else if (encoderClass.equals(LinkedList.class)) {
+            return size -> new LinkedList<>();
         }
 
         try {
-            return encoderClass.getDeclaredConstructor().newInstance();
+            Constructor<Collection<T>> constructor = encoderClass.getDeclaredConstructor();
+            return size -> {
+                try {
+                    return constructor.newInstance();
+                } catch (Exception e) {
+                    throw new CodecConfigurationException(e.getMessage(), e);
+                }
+            };
         } catch (Exception e) {
             throw new CodecConfigurationException(e.getMessage(), e);
         }
     }
+
+    private static int capacity(int size) {
+        return Math.max(16, (int) (size / .75f) + 1);
+    }
 }
@@ -12,8 +12,8 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.time.Instant;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static java.lang.Boolean.FALSE;
@@ -28,7 +28,12 @@ import static java.lang.Boolean.FALSE;
 public final class Conversions {
     private static final Logger LOG = LoggerFactory.getLogger(Conversions.class);
 
-    private static final Map<Class<?>, Map<Class<?>, Function<?, ?>>> CONVERSIONS = new HashMap<>();
+    private static final Map<Class<?>, Map<Class<?>, Function<?, ?>>> CONVERSIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every registration so resolved converters know to look their conversions up again.
+     */
+    private static volatile int generation;
 
     static {
         registerStringConversions();
@@ -113,7 +118,7 @@ public final class Conversions {
      * @param <T>    the target type
      * @return the potentially converted value
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("unchecked")
     @Nullable
     public static <T> T convert(@Nullable Object value, Class<T> target) {
         if (value == null) {
@@ -125,19 +130,37 @@ public final class Conversions {
             return (T) value;
         }
 
-        final Function function = CONVERSIONS
-                                      .computeIfAbsent(fromType, (f) -> new HashMap<>())
-                                      .get(target);
-        if (function == null) {
-            if (target.equals(String.class)) {
-                return (T) value.toString();
-            }
-            if (target.isEnum() && fromType.equals(String.class)) {
-                return (T) Enum.valueOf((Class<? extends Enum>) target, (String) value);
-            }
-            return (T) value;
+        return (T) resolve(fromType, target).apply(value);
+    }
+
+    /**
+     * Resolves a converter to the given type.  The returned function behaves like {@link #convert(Object, Class)} but remembers the
+     * conversion for each source type it sees so repeated conversions skip the lookup entirely.  Resolve this once,
+     * e.g. when a type is mapped, and reuse it for every value.  The function is safe to share between threads.
+     *
+     * @param target the target type
+     * @param <T>    the target type
+     * @return the converter
+     * @since 2.2
+     */
+    public static <T> Function<Object, T> converter(Class<T> target) {
+        return new Converter<>(target);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<Object, Object> resolve(Class<?> fromType, Class<?> target) {
+        Map<Class<?>, Function<?, ?>> conversions = CONVERSIONS.get(fromType);
+        Function function = conversions != null ? conversions.get(target) : null;
+        if (function != null) {
+            return function;
+        }
+        if (target.equals(String.class)) {
+            return Object::toString;
         }
-        return (T) function.apply(value);
+        if (target.isEnum() && fromType.equals(String.class)) {
+            return value -> Enum.valueOf((Class<? extends Enum>) target, (String) value);
+        }
+        return Function.identity();
     }
 
     @Nullable
@@ -165,8 +188,8 @@ public final class Conversions {
      * @param <S>      the source type
      * @param <T>      the target type.
      */
-    public static <S, T> void register(Class<S> source, Class<T> target, Function<S, T> function,
-                                       @Nullable String warning) {
+    public static synchronized <S, T> void register(Class<S> source, Class<T> target, Function<S, T> function,
+                                                    @Nullable String warning) {
         final Function<S, T> conversion = warning == null
                                           ? function
                                           : s -> {
@@ -175,8 +198,23 @@ public final class Conversions {
                                               }
                                               return function.apply(s);
                                           };
-        CONVERSIONS.computeIfAbsent(source, (Class<?> c) -> new HashMap<>())
+        CONVERSIONS.computeIfAbsent(source, (Class<?> c) -> new ConcurrentHashMap<>())
                    .put(target, conversion);
+        generation++;
+    }
+
+    /**
+     * Removes a conversion registered between two types
+     *
+     * @param source the source type
+     * @param target the target type
+     * @since 2.2
+     */
+    public static synchronized void unregister(Class<?> source, Class<?> target) {
+        Map<Class<?>, Function<?, ?>> conversions = CONVERSIONS.get(source);
+        if (conversions != null && conversions.remove(target) != null) {
+            generation++;
+        }
     }
 
     private static boolean isNumber(Class<?> type) {
@@ -186,4 +224,54 @@ public final class Conversions {
     private static boolean isBoolean(Class<?> type) {
         return type.equals(boolean.class);
     }
+
+    private static final class Converter<T> implements Function<Object, T> {
+        private final Class<T> target;
+        @Nullable
+        private final Object nullValue;
+        private final Map<Class<?>, Resolved> resolutions = new ConcurrentHashMap<>();
+        private volatile Resolved resolved = new Resolved(null, Function.identity(), -1);
+
+        private Converter(Class<T> target) {
+            this.target = target;
+            nullValue = convertNull(target);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T apply(@Nullable Object value) {
+            if (value == null) {
+                return (T) nullValue;
+            }
+            Class<?> fromType = value.getClass();
+            if (fromType == target) {
+                return (T) value;
+            }
+            Resolved current = resolved;
+            int expected = generation;
+            if (current.fromType != fromType || current.generation != expected) {
+                // polymorphic values alternate between a few source types so keep one resolution per type rather than one slot
+                current = resolutions.get(fromType);
+                if (current == null || current.generation != expected) {
+                    current = new Resolved(fromType, resolve(fromType, target), expected);
+                    resolutions.put(fromType, current);
+                }
+                resolved = current;
+            }
+            return (T) current.function.apply(value);
+        }
+    }
+
+    private static final class Resolved {
+        @Nullable
+        private final Class<?> fromType;
+        private final Function<Object, Object> function;
+        private final int generation;
+
+        private Resolved(@Nullable Class<?> fromType, Function<Object, Object> function, int generation) {
+            this.fromType = fromType;
+            this.function = function;
+            this.generation = generation;
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package dev.morphia.mapping.codec;
+
+import com.mongodb.lang.Nullable;
+import org.bson.BsonReader;
+import org.bson.BsonReaderMark;
+import org.bson.BsonType;
+
+/**
+ * Reads the discriminator of a document ahead of decoding it.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public final class Discriminators {
+    /**
+     * Entities are written with the id first and then the discriminator
+     */
+    private static final int PEEKED_ELEMENTS = 2;
+
+    private Discriminators() {
+    }
+
+    /**
+     * Looks for the discriminator among the first elements of the document the reader is positioned at.  Only the id and the element
+     * after it are checked since that is where entities are written with their discriminator.  The reader is left where it started.
+     *
+     * @param reader the reader
+     * @param key    the discriminator key
+     * @return the discriminator or null if it is not in the elements checked
+     */
+    @Nullable
+    public static String peek(BsonReader reader, String key) {
+        BsonReaderMark mark = reader.getMark();
+        try {
+            reader.readStartDocument();
+            for (int i = 0; i < PEEKED_ELEMENTS && reader.readBsonType() != BsonType.END_OF_DOCUMENT; i++) {
+                if (key.equals(reader.readName())) {
+                    return reader.readString();
+                }
+                reader.skipValue();
+            }
+            return null;
+        } finally {
+            mark.reset();
+        }
+    }
+
+    /**
+     * Scans the whole of the document the reader is positioned at for the discriminator.  The reader is left where it started.
+     *
+     * @param reader the reader
+     * @param key    the discriminator key
+     * @return the discriminator or null if the document has none
+     */
+    @Nullable
+    public static String scan(BsonReader reader, String key) {
+        BsonReaderMark mark = reader.getMark();
+        try {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (key.equals(reader.readName())) {
+                    return reader.readString();
+                }
+                reader.skipValue();
+            }
+            return null;
+        } finally {
+            mark.reset();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.Arrays;
+
+/**
+ * Reads {@code double[]} values straight in to a primitive buffer rather than boxing each element.  The buffer starts at a bounded average of
+ * the lengths decoded so arrays of a steady size are read without resizing.
+ */
+class DoubleArrayCodec implements Codec<double[]> {
+    private final Mapper mapper;
+    private Codec<Double> codec;
+    private final SizeHint sizeHint = new SizeHint(16, 1024);
+
+    DoubleArrayCodec(Mapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public double[] decode(BsonReader reader, DecoderContext decoderContext) {
+        double[] values = new double[sizeHint.get()];
+        int size = 0;
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.DOUBLE
+                             ? reader.readDouble()
+                             : getCodec().decode(reader, decoderContext);
+        }
+        reader.readEndArray();
+        sizeHint.update(size);
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, double[] value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (double element : value) {
+            writer.writeDouble(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public Class<double[]> getEncoderClass() {
+        return double[].class;
+    }
+
+    private Codec<Double> getCodec() {
+        if (codec == null) {
+            codec = mapper.getCodecRegistry().get(Double.class);
+        }
+        return codec;
+    }
+}
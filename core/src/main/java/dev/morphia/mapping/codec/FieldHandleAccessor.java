@@ -0,0 +1,68 @@
+package dev.morphia.mapping.codec;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.mapping.MappingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Field;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * A field accessor which uses {@link MethodHandle}s resolved once at mapping time rather than reflective {@link Field} access.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class FieldHandleAccessor extends FieldAccessor {
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final PrimitiveAccessor primitive;
+
+    /**
+     * Creates the accessor for a field
+     *
+     * @param field the field itself
+     */
+    public FieldHandleAccessor(Field field) {
+        super(field);
+        try {
+            Lookup lookup = MethodHandles.lookup();
+            MethodHandle fieldGetter = lookup.unreflectGetter(field);
+            MethodHandle fieldSetter = lookup.unreflectSetter(field);
+            getter = fieldGetter.asType(methodType(Object.class, Object.class));
+            setter = fieldSetter.asType(methodType(void.class, Object.class, Object.class));
+            primitive = PrimitiveAccessor.of(fieldGetter, fieldSetter);
+        } catch (IllegalAccessException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return the unboxed accessor if the field is a boolean, int, long or double
+     */
+    @Nullable
+    public PrimitiveAccessor getPrimitiveAccessor() {
+        return primitive;
+    }
+
+    @Override
+    public Object get(Object instance) {
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void set(Object instance, Object value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.Arrays;
+
+/**
+ * Reads {@code int[]} values straight in to a primitive buffer rather than boxing each element.  The buffer starts at a bounded average of
+ * the lengths decoded so arrays of a steady size are read without resizing.
+ */
+class IntArrayCodec implements Codec<int[]> {
+    private final Mapper mapper;
+    private Codec<Integer> codec;
+    private final SizeHint sizeHint = new SizeHint(16, 1024);
+
+    IntArrayCodec(Mapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public int[] decode(BsonReader reader, DecoderContext decoderContext) {
+        int[] values = new int[sizeHint.get()];
+        int size = 0;
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.INT32
+                             ? reader.readInt32()
+                             : getCodec().decode(reader, decoderContext);
+        }
+        reader.readEndArray();
+        sizeHint.update(size);
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, int[] value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (int element : value) {
+            writer.writeInt32(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public Class<int[]> getEncoderClass() {
+        return int[].class;
+    }
+
+    private Codec<Integer> getCodec() {
+        if (codec == null) {
+            codec = mapper.getCodecRegistry().get(Integer.class);
+        }
+        return codec;
+    }
+}
@@ -0,0 +1,64 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.Arrays;
+
+/**
+ * Reads {@code long[]} values straight in to a primitive buffer rather than boxing each element.  The buffer starts at a bounded average of
+ * the lengths decoded so arrays of a steady size are read without resizing.
+ */
+class LongArrayCodec implements Codec<long[]> {
+    private final Mapper mapper;
+    private Codec<Long> codec;
+    private final SizeHint sizeHint = new SizeHint(16, 1024);
+
+    LongArrayCodec(Mapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public long[] decode(BsonReader reader, DecoderContext decoderContext) {
+        long[] values = new long[sizeHint.get()];
+        int size = 0;
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.INT64
+                             ? reader.readInt64()
+                             : getCodec().decode(reader, decoderContext);
+        }
+        reader.readEndArray();
+        sizeHint.update(size);
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, long[] value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (long element : value) {
+            writer.writeInt64(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public Class<long[]> getEncoderClass() {
+        return long[].class;
+    }
+
+    private Codec<Long> getCodec() {
+        if (codec == null) {
+            codec = mapper.getCodecRegistry().get(Long.class);
+        }
+        return codec;
+    }
+}
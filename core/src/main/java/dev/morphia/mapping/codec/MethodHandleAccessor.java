@@ -0,0 +1,73 @@
+package dev.morphia.mapping.codec;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.mapping.MappingException;
+import org.bson.codecs.pojo.PropertyAccessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Method;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * A getter/setter based accessor which uses {@link MethodHandle}s resolved once at mapping time rather than reflective invocation.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class MethodHandleAccessor implements PropertyAccessor<Object> {
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final PrimitiveAccessor primitive;
+
+    /**
+     * Creates the accessor for a getter/setter pair
+     *
+     * @param getter the getter method
+     * @param setter the setter method
+     */
+    public MethodHandleAccessor(Method getter, Method setter) {
+        try {
+            getter.setAccessible(true);
+            setter.setAccessible(true);
+            Lookup lookup = MethodHandles.lookup();
+            MethodHandle getterHandle = lookup.unreflect(getter);
+            MethodHandle setterHandle = lookup.unreflect(setter);
+            this.getter = getterHandle.asType(methodType(Object.class, Object.class));
+            this.setter = setterHandle.asType(methodType(void.class, Object.class, Object.class));
+            primitive = setterHandle.type().parameterType(1) == getter.getReturnType()
+                        ? PrimitiveAccessor.of(getterHandle, setterHandle)
+                        : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return the unboxed accessor if the property is a boolean, int, long or double
+     */
+    @Nullable
+    public PrimitiveAccessor getPrimitiveAccessor() {
+        return primitive;
+    }
+
+    @Override
+    public <S> Object get(S instance) {
+        try {
+            return (Object) getter.invokeExact((Object) instance);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <S> void set(S instance, Object value) {
+        try {
+            setter.invokeExact((Object) instance, value);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+}
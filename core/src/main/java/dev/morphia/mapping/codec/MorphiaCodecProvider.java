@@ -1,6 +1,7 @@
 package dev.morphia.mapping.codec;
 
 import dev.morphia.Datastore;
+import dev.morphia.annotations.LazyLoad;
 import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PostPersist;
 import dev.morphia.annotations.PreLoad;
@@ -8,6 +9,7 @@ import dev.morphia.annotations.PrePersist;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityDecoder;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.LazyDecoder;
 import dev.morphia.mapping.codec.pojo.LifecycleDecoder;
 import dev.morphia.mapping.codec.pojo.LifecycleEncoder;
 import dev.morphia.mapping.codec.pojo.MorphiaCodec;
@@ -17,9 +19,9 @@ import org.bson.codecs.configuration.CodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PropertyCodecProvider;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provider for codecs for Morphia entities
@@ -27,10 +29,11 @@ import java.util.Map;
  * @morphia.internal
  */
 public class MorphiaCodecProvider implements CodecProvider {
-    private final Map<Class<?>, Codec<?>> codecs = new HashMap<>();
+    private final Map<Class<?>, Codec<?>> codecs = new ConcurrentHashMap<>();
     private final Mapper mapper;
     private final List<PropertyCodecProvider> propertyCodecProviders;
     private final Datastore datastore;
+    private final boolean lazy;
 
     /**
      * Creates a provider
@@ -39,8 +42,22 @@ public class MorphiaCodecProvider implements CodecProvider {
      * @param datastore the datastore to use
      */
     public MorphiaCodecProvider(Mapper mapper, Datastore datastore) {
+        this(mapper, datastore, false);
+    }
+
+    /**
+     * Creates a provider
+     *
+     * @param mapper    the mapper to use
+     * @param datastore the datastore to use
+     * @param lazy      if true, this provider only provides codecs for the entities which can be loaded lazily and loads them so
+     * @see LazyLoad
+     * @since 2.2
+     */
+    public MorphiaCodecProvider(Mapper mapper, Datastore datastore, boolean lazy) {
         this.datastore = datastore;
         this.mapper = mapper;
+        this.lazy = lazy;
 
         propertyCodecProviders = List.of(new MorphiaMapPropertyCodecProvider(),
             new MorphiaCollectionPropertyCodecProvider());
@@ -52,11 +69,18 @@ public class MorphiaCodecProvider implements CodecProvider {
         MorphiaCodec<T> codec = (MorphiaCodec<T>) codecs.get(type);
         if (codec == null && (mapper.isMapped(type) || mapper.isMappable(type))) {
             EntityModel model = mapper.getEntityModel(type);
-            codec = new MorphiaCodec<>(datastore, model, propertyCodecProviders, mapper.getDiscriminatorLookup(), registry);
+            boolean lazyLoad = (lazy ? model.getEntityAnnotation() != null : model.getAnnotation(LazyLoad.class) != null)
+                               && !mapper.hasInterceptors() && LazyDecoder.supports(model);
+            if (lazy && !lazyLoad) {
+                return null;
+            }
+            codec = new MorphiaCodec<>(datastore, model, propertyCodecProviders, mapper.getDiscriminatorLookup(), registry, !lazy);
             if (model.hasLifecycle(PostPersist.class) || model.hasLifecycle(PrePersist.class) || mapper.hasInterceptors()) {
                 codec.setEncoder(new LifecycleEncoder(codec));
             }
-            if (model.hasLifecycle(PreLoad.class) || model.hasLifecycle(PostLoad.class) || mapper.hasInterceptors()) {
+            if (lazyLoad) {
+                codec.setDecoder(new LazyDecoder(codec));
+            } else if (model.hasLifecycle(PreLoad.class) || model.hasLifecycle(PostLoad.class) || mapper.hasInterceptors()) {
                 codec.setDecoder(new LifecycleDecoder(codec));
             }
             codecs.put(type, codec);
@@ -87,6 +111,11 @@ public class MorphiaCodecProvider implements CodecProvider {
                                 return entity;
                             }
 
+                            @Override
+                            public T getTarget() {
+                                return entity;
+                            }
+
                             @Override
                             public void set(Object value, PropertyModel model) {
                                 model.getAccessor().set(entity, value);
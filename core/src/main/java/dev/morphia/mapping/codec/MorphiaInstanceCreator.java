@@ -1,9 +1,23 @@
 package dev.morphia.mapping.codec;
 
+import com.mongodb.lang.Nullable;
+
 /**
  * Marker interface for creators
  *
  * @morphia.internal
  */
 public interface MorphiaInstanceCreator extends InstanceCreator {
+    /**
+     * Returns the instance properties may be written to directly rather than through {@link #set(Object,
+     * dev.morphia.mapping.codec.pojo.PropertyModel)}.  Creators which collect values first, to pass to a constructor for example, have
+     * no such instance.
+     *
+     * @return the instance or null if values must be given to this creator
+     * @since 2.2
+     */
+    @Nullable
+    default Object getTarget() {
+        return null;
+    }
 }
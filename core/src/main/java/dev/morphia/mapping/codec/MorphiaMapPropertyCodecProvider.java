@@ -16,6 +16,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
 import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
 
@@ -48,12 +49,13 @@ class MorphiaMapPropertyCodecProvider extends MorphiaPropertyCodecProvider {
 
     private static class MapCodec<K, V> implements Codec<Map<K, V>> {
         private final Class<Map<K, V>> encoderClass;
-        private final Class<K> keyType;
+        private final Function<Object, K> keyDecoder;
+        private final Function<Object, String> keyEncoder = Conversions.converter(String.class);
         private final Codec<V> codec;
 
         MapCodec(Class<Map<K, V>> encoderClass, Class<K> keyType, Codec<V> codec) {
             this.encoderClass = encoderClass;
-            this.keyType = keyType;
+            this.keyDecoder = Conversions.converter(keyType);
             this.codec = codec;
         }
 
@@ -62,7 +64,7 @@ class MorphiaMapPropertyCodecProvider extends MorphiaPropertyCodecProvider {
             document(writer, () -> {
                 for (Entry<K, V> entry : map.entrySet()) {
                     final K key = entry.getKey();
-                    writer.writeName(Conversions.convert(key, String.class));
+                    writer.writeName(keyEncoder.apply(key));
                     if (entry.getValue() == null) {
                         writer.writeNull();
                     } else {
@@ -77,7 +79,7 @@ class MorphiaMapPropertyCodecProvider extends MorphiaPropertyCodecProvider {
             reader.readStartDocument();
             Map<K, V> map = getInstance();
             while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                final K key = Conversions.convert(reader.readName(), keyType);
+                final K key = keyDecoder.apply(reader.readName());
                 if (reader.getCurrentBsonType() == BsonType.NULL) {
                     map.put(key, null);
                     reader.readNull();
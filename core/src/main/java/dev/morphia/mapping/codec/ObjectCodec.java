@@ -3,7 +3,6 @@ package dev.morphia.mapping.codec;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import org.bson.BsonReader;
-import org.bson.BsonReaderMark;
 import org.bson.BsonType;
 import org.bson.BsonWriter;
 import org.bson.Document;
@@ -17,6 +16,7 @@ import org.bson.codecs.configuration.CodecConfigurationException;
  * Defines a generic codec for Objects that will attempt to discover and use the correct codec.
  */
 public class ObjectCodec implements Codec<Object> {
+    private static final DecoderContext CHECKED = DecoderContext.builder().checkedDiscriminator(true).build();
 
     private final Mapper mapper;
     private final BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap();
@@ -33,31 +33,30 @@ public class ObjectCodec implements Codec<Object> {
     @Override
     public Object decode(BsonReader reader, DecoderContext decoderContext) {
         BsonType bsonType = reader.getCurrentBsonType();
+        DecoderContext context = decoderContext;
         Class<?> clazz;
         if (bsonType == BsonType.DOCUMENT) {
             clazz = Document.class;
             String discriminatorField = mapper.getOptions().getDiscriminatorKey();
-
-            BsonReaderMark mark = reader.getMark();
-            reader.readStartDocument();
-            while (clazz.equals(Document.class) && reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                if (reader.readName().equals(discriminatorField)) {
-                    try {
-                        clazz = mapper.getClass(reader.readString());
-                    } catch (CodecConfigurationException e) {
-                        throw new MappingException(e.getMessage(), e);
-                    }
-                } else {
-                    reader.skipValue();
+            String discriminator = Discriminators.peek(reader, discriminatorField);
+            if (discriminator == null) {
+                discriminator = Discriminators.scan(reader, discriminatorField);
+            }
+            if (discriminator != null) {
+                try {
+                    clazz = mapper.getClass(discriminator);
+                    // the discriminator has already been resolved so the entity codec need not scan for it again
+                    context = CHECKED;
+                } catch (CodecConfigurationException e) {
+                    throw new MappingException(e.getMessage(), e);
                 }
             }
-            mark.reset();
         } else {
             clazz = bsonTypeClassMap.get(bsonType);
         }
         return mapper.getCodecRegistry()
                      .get(clazz)
-                     .decode(reader, decoderContext);
+                     .decode(reader, context);
     }
 
     @Override
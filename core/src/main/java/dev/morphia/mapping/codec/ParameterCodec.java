@@ -0,0 +1,34 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.query.Parameter;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
+
+/**
+ * Writes the placeholder for a {@link Parameter} when a prepared query is compiled
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+class ParameterCodec implements Codec<Parameter> {
+    @Override
+    public Parameter decode(BsonReader reader, DecoderContext decoderContext) {
+        throw new UnsupportedOperationException(Sofia.encodingOnly());
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Parameter value, EncoderContext encoderContext) {
+        document(writer, () -> writer.writeString(Parameter.KEY, value.getName()));
+    }
+
+    @Override
+    public Class<Parameter> getEncoderClass() {
+        return Parameter.class;
+    }
+}
@@ -0,0 +1,145 @@
+package dev.morphia.mapping.codec;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.mapping.MappingException;
+
+import java.lang.invoke.MethodHandle;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Reads and writes a boolean, int, long or double property through {@link MethodHandle}s typed to the primitive itself so the value is
+ * never boxed.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public final class PrimitiveAccessor {
+    private final Class<?> type;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private PrimitiveAccessor(Class<?> type, MethodHandle getter, MethodHandle setter) {
+        this.type = type;
+        this.getter = getter.asType(methodType(type, Object.class));
+        this.setter = setter.asType(methodType(void.class, Object.class, type));
+    }
+
+    /**
+     * Creates an accessor from a getter and setter pair
+     *
+     * @param getter the getter taking the instance and returning the value
+     * @param setter the setter taking the instance and the value
+     * @return the accessor or null if the property is not a boolean, int, long or double
+     */
+    @Nullable
+    static PrimitiveAccessor of(MethodHandle getter, MethodHandle setter) {
+        Class<?> type = getter.type().returnType();
+        return type == boolean.class || type == int.class || type == long.class || type == double.class
+               ? new PrimitiveAccessor(type, getter, setter)
+               : null;
+    }
+
+    /**
+     * @return the primitive type of the property
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @param instance the instance
+     * @return the value of a boolean property
+     */
+    public boolean getBoolean(Object instance) {
+        try {
+            return (boolean) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param instance the instance
+     * @param value    the new value of a boolean property
+     */
+    public void setBoolean(Object instance, boolean value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param instance the instance
+     * @return the value of an int property
+     */
+    public int getInt(Object instance) {
+        try {
+            return (int) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param instance the instance
+     * @param value    the new value of an int property
+     */
+    public void setInt(Object instance, int value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param instance the instance
+     * @return the value of a long property
+     */
+    public long getLong(Object instance) {
+        try {
+            return (long) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param instance the instance
+     * @param value    the new value of a long property
+     */
+    public void setLong(Object instance, long value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param instance the instance
+     * @return the value of a double property
+     */
+    public double getDouble(Object instance) {
+        try {
+            return (double) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param instance the instance
+     * @param value    the new value of a double property
+     */
+    public void setDouble(Object instance, double value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package dev.morphia.mapping.codec;
+
+/**
+ * Tracks a decaying average of the sizes a codec decodes so buffers can be presized.  The hint never exceeds its bound so one large
+ * value can not inflate every later allocation.  Codecs are shared across threads and updates are deliberately unsynchronized: a lost
+ * update only costs a resize, and every value written stays within the bound.
+ */
+final class SizeHint {
+    private final int max;
+    private int hint;
+
+    /**
+     * @param initial the hint to start with
+     * @param max     the largest hint to give
+     */
+    SizeHint(int initial, int max) {
+        this.hint = Math.min(initial, max);
+        this.max = max;
+    }
+
+    /**
+     * @return the size to presize the next buffer to
+     */
+    int get() {
+        return hint;
+    }
+
+    /**
+     * Folds the size of a decoded value in to the hint
+     *
+     * @param size the size decoded
+     */
+    void update(int size) {
+        int current = hint;
+        hint = Math.max(1, Math.min(max, current + (Math.min(size, max) - current) / 4));
+    }
+}
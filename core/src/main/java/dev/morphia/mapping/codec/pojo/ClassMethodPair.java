@@ -7,58 +7,58 @@ import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * @morphia.internal
  */
 public class ClassMethodPair {
-    private final Class<?> type;
+    private static final int INSTANCE = 0;
+    private static final int DOCUMENT = 1;
+    private static final int ENTITY = 2;
+    private static final int DATASTORE = 3;
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object.class, Object.class);
+
+    private final Object listener;
     private final Method method;
-    private final Datastore datastore;
     private final Class<? extends Annotation> event;
+    private final boolean documentParameter;
+    private final MethodHandle invoker;
 
-    ClassMethodPair(Datastore datastore, Method method, @Nullable Class<?> type, Class<? extends Annotation> event) {
+    ClassMethodPair(Datastore datastore, Method method, @Nullable Object listener, Class<? extends Annotation> event) {
         this.event = event;
-        this.type = type;
+        this.listener = listener;
         this.method = method;
-        this.datastore = datastore;
-    }
 
-    void invoke(Document document, Object entity) {
-        try {
-            Object instance;
-            if (type != null) {
-                instance = getOrCreateInstance(type);
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        int[] reorder = new int[parameterTypes.length + 1];
+        boolean hasDocument = false;
+        reorder[0] = INSTANCE;
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i].equals(Document.class)) {
+                reorder[i + 1] = DOCUMENT;
+                hasDocument = true;
+            } else if (parameterTypes[i].equals(Datastore.class)) {
+                reorder[i + 1] = DATASTORE;
             } else {
-                instance = entity;
+                reorder[i + 1] = ENTITY;
             }
-
-            final Method method = getMethod();
-            method.setAccessible(true);
-
-            Sofia.logCallingLifecycleMethod(event.getSimpleName(), method, instance);
-            List<Object> args = new ArrayList<>();
-
-            for (Class<?> parameterType : method.getParameterTypes()) {
-                if (parameterType.equals(Document.class)) {
-                    args.add(document);
-                } else if (parameterType.equals(Datastore.class)) {
-                    args.add(datastore);
-                } else {
-                    args.add(entity);
-                }
-            }
-            method.invoke(instance, args.toArray());
-        } catch (ReflectiveOperationException e) {
-            throw new IllegalStateException(e.getMessage(), e);
         }
+        documentParameter = hasDocument;
+        invoker = compile(method, reorder, datastore);
     }
 
-    private Object getOrCreateInstance(Class<?> type) {
+    /**
+     * Creates an instance of an {@code @EntityListeners} type
+     *
+     * @param type the listener type
+     * @return the new instance
+     */
+    static Object createListener(Class<?> type) {
         try {
             Constructor<?> declaredConstructor = type.getDeclaredConstructor();
             declaredConstructor.setAccessible(true);
@@ -66,11 +66,43 @@ public class ClassMethodPair {
         } catch (ReflectiveOperationException e) {
             throw new MappingException(Sofia.cannotInstantiate(type, e.getMessage()));
         }
+    }
 
+    /**
+     * Adapts the method to a uniform {@code (instance, document, entity)} signature so that each invocation simply passes those three
+     * values along.  The arguments the method actually declares are bound and reordered once here.
+     */
+    private static MethodHandle compile(Method method, int[] reorder, Datastore datastore) {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            handle = handle.asType(MethodType.genericMethodType(reorder.length).changeReturnType(void.class));
+            handle = MethodHandles.permuteArguments(handle, INVOKER_TYPE.appendParameterTypes(Object.class), reorder);
+            return MethodHandles.insertArguments(handle, DATASTORE, datastore);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    void invoke(@Nullable Document document, Object entity) {
+        Object instance = listener != null ? listener : entity;
+        Sofia.logCallingLifecycleMethod(event.getSimpleName(), method, instance);
+        try {
+            invoker.invokeExact(instance, (Object) document, entity);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
     }
 
     Method getMethod() {
         return method;
     }
 
+    /**
+     * @return true if the lifecycle method takes the {@code Document} form of the entity as a parameter
+     */
+    boolean hasDocumentParameter() {
+        return documentParameter;
+    }
+
 }
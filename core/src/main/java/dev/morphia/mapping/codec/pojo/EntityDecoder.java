@@ -2,6 +2,7 @@ package dev.morphia.mapping.codec.pojo;
 
 import com.mongodb.lang.Nullable;
 import dev.morphia.mapping.DiscriminatorLookup;
+import dev.morphia.mapping.codec.Discriminators;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
@@ -12,13 +13,12 @@ import org.bson.codecs.DecoderContext;
 import org.bson.codecs.configuration.CodecConfigurationException;
 import org.bson.codecs.configuration.CodecRegistry;
 
-import static dev.morphia.mapping.codec.Conversions.convert;
-
 /**
  * @morphia.internal
  * @since 2.0
  */
 public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
+    private static final DecoderContext CHECKED = DecoderContext.builder().checkedDiscriminator(true).build();
     private final MorphiaCodec<?> morphiaCodec;
     private final EntityModel classModel;
 
@@ -29,18 +29,28 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
 
     @Override
     public Object decode(BsonReader reader, DecoderContext decoderContext) {
-        Object entity;
-        if (decoderContext.hasCheckedDiscriminator()) {
+        if (decoderContext.hasCheckedDiscriminator() || !classModel.useDiscriminator()) {
             MorphiaInstanceCreator instanceCreator = getInstanceCreator();
             decodeProperties(reader, decoderContext, instanceCreator);
             return instanceCreator.getInstance();
+        }
+        Codec<?> codec;
+        String discriminator = Discriminators.peek(reader, classModel.getDiscriminatorKey());
+        if (discriminator == null) {
+            codec = getCodecFromDocument(reader, true, classModel.getDiscriminatorKey(), morphiaCodec.getRegistry(),
+                morphiaCodec.getDiscriminatorLookup(), morphiaCodec);
+        } else if (discriminator.equals(classModel.getDiscriminator())) {
+            codec = morphiaCodec;
         } else {
-            entity = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(),
-                morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
-                         .decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+            codec = morphiaCodec.getRegistry().get(morphiaCodec.getDiscriminatorLookup().lookup(discriminator));
         }
-
-        return entity;
+        if (codec == morphiaCodec) {
+            // this decoder's own type so decode in place rather than going through the codec again
+            MorphiaInstanceCreator instanceCreator = getInstanceCreator();
+            decodeProperties(reader, decoderContext, instanceCreator);
+            return instanceCreator.getInstance();
+        }
+        return codec.decode(reader, CHECKED);
     }
 
     protected MorphiaInstanceCreator getInstanceCreator() {
@@ -51,34 +61,62 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
                                MorphiaInstanceCreator instanceCreator, @Nullable PropertyModel model) {
 
         if (model != null) {
+            PrimitiveProperty primitive = primitive(model);
+            Object target = primitive != null ? instanceCreator.getTarget() : null;
+            if (target != null && primitive.read(reader, target)) {
+                return;
+            }
             final BsonReaderMark mark = reader.getMark();
             try {
                 if (reader.getCurrentBsonType() == BsonType.NULL) {
                     reader.readNull();
                 } else {
-                    Object value = decoderContext.decodeWithChildContext(model.getCachedCodec(), reader);
+                    Object value = decoderContext.decodeWithChildContext(codec(model), reader);
                     instanceCreator.set(value, model);
                 }
             } catch (BsonInvalidOperationException e) {
                 mark.reset();
                 final Object value = morphiaCodec.getMapper().getCodecRegistry().get(Object.class).decode(reader, decoderContext);
-                instanceCreator.set(convert(value, model.getTypeData().getType()), model);
+                instanceCreator.set(model.convert(value), model);
             }
         } else {
             reader.skipValue();
         }
     }
 
+    /**
+     * @param model the property
+     * @return the codec to decode the property with
+     */
+    Codec<? super Object> codec(PropertyModel model) {
+        return model.getCachedCodec();
+    }
+
+    /**
+     * @param model the property
+     * @return the unboxed accessor to decode the property with, if it has one
+     */
+    @Nullable
+    PrimitiveProperty primitive(PropertyModel model) {
+        return model.primitive();
+    }
+
     protected void decodeProperties(BsonReader reader, DecoderContext decoderContext,
                                     MorphiaInstanceCreator instanceCreator) {
         reader.readStartDocument();
-        EntityModel classModel = morphiaCodec.getEntityModel();
+        PropertyNameIndex index = morphiaCodec.getEntityModel().getNameIndex();
+        int expected = 0;
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-            String name = reader.readName();
-            if (classModel.useDiscriminator() && classModel.getDiscriminatorKey().equals(name)) {
-                reader.readString();
+            int slot = index.find(reader.readName(), expected);
+            if (slot == PropertyNameIndex.UNKNOWN) {
+                decodeModel(reader, decoderContext, instanceCreator, null);
             } else {
-                decodeModel(reader, decoderContext, instanceCreator, classModel.getProperty(name));
+                expected = slot + 1;
+                if (index.isDiscriminator(slot)) {
+                    reader.readString();
+                } else {
+                    decodeModel(reader, decoderContext, instanceCreator, index.model(slot));
+                }
             }
         }
         reader.readEndDocument();
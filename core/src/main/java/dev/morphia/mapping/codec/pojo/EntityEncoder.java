@@ -6,13 +6,14 @@ import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.IdGenerator;
 import org.bson.codecs.ObjectIdGenerator;
+import org.bson.codecs.pojo.PropertyAccessor;
 import org.bson.types.ObjectId;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
-import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
-
 /**
  * @morphia.internal
  * @since 2.0
@@ -20,10 +21,12 @@ import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.docum
 class EntityEncoder implements org.bson.codecs.Encoder<Object> {
     public static final ObjectIdGenerator OBJECT_ID_GENERATOR = new ObjectIdGenerator();
     private final MorphiaCodec morphiaCodec;
+    private final EncodedProperty[] properties;
     private IdGenerator idGenerator;
 
     protected EntityEncoder(MorphiaCodec morphiaCodec) {
         this.morphiaCodec = morphiaCodec;
+        properties = encodePlan(morphiaCodec.getEntityModel());
     }
 
     @Override
@@ -39,27 +42,30 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
     @SuppressWarnings("unchecked")
     protected void encodeEntity(BsonWriter writer, Object value, EncoderContext encoderContext) {
         EntityModel model = morphiaCodec.getEntityModel();
-        if (areEquivalentTypes(value.getClass(), model.getType())) {
-            document(writer, () -> {
+        Class<?> type = value.getClass();
+        if (value instanceof LazyEntity) {
+            // properties are read straight from the fields below so everything must be loaded first
+            ((LazyEntity) value).unwrap();
+            type = type.getSuperclass();
+        }
+        if (areEquivalentTypes(type, model.getType())) {
+            writer.writeStartDocument();
 
-                PropertyModel idModel = model.getIdProperty();
-                encodeIdProperty(writer, value, encoderContext, idModel);
+            encodeIdProperty(writer, value, encoderContext, model.getIdProperty());
 
-                if (model.useDiscriminator()) {
-                    writer.writeString(model.getDiscriminatorKey(),
-                        model.getDiscriminator());
-                }
+            if (model.useDiscriminator()) {
+                writer.writeString(model.getDiscriminatorKey(),
+                    model.getDiscriminator());
+            }
 
-                for (PropertyModel propertyModel : model.getProperties()) {
-                    if (propertyModel.equals(idModel)) {
-                        continue;
-                    }
-                    encodeProperty(writer, value, encoderContext, propertyModel);
-                }
-            });
+            for (EncodedProperty property : properties) {
+                property.encode(writer, value, encoderContext);
+            }
+
+            writer.writeEndDocument();
         } else {
             morphiaCodec.getRegistry()
-                        .get((Class<? super Object>) value.getClass())
+                        .get((Class<? super Object>) type)
                         .encode(writer, value, encoderContext);
         }
     }
@@ -68,6 +74,21 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
         return morphiaCodec;
     }
 
+    /**
+     * Builds the ordered list of properties, minus the ID property, to write for each entity.  This is computed once per codec so that
+     * encoding an entity does not need to copy or compare property models.
+     */
+    private static EncodedProperty[] encodePlan(EntityModel model) {
+        PropertyModel idModel = model.getIdProperty();
+        List<EncodedProperty> plan = new ArrayList<>();
+        for (PropertyModel propertyModel : model.getProperties()) {
+            if (propertyModel != idModel) {
+                plan.add(new EncodedProperty(propertyModel));
+            }
+        }
+        return plan.toArray(new EncodedProperty[0]);
+    }
+
     private <S, V> boolean areEquivalentTypes(Class<S> t1, Class<V> t2) {
         return t1.equals(t2)
                || Collection.class.isAssignableFrom(t1) && Collection.class.isAssignableFrom(t2)
@@ -109,6 +130,44 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
         }
     }
 
+    private static final class EncodedProperty {
+        private final PropertyModel model;
+        private final PropertyAccessor<? super Object> accessor;
+        private final String mappedName;
+        private final Codec<? super Object> codec;
+        private final PrimitiveProperty primitive;
+        private final boolean serializePrimitive;
+
+        private EncodedProperty(PropertyModel model) {
+            this.model = model;
+            accessor = model.getAccessor();
+            mappedName = model.getMappedName();
+            codec = model.getCachedCodec();
+            primitive = model.primitive();
+            // primitives are never null or empty so whether one is written does not depend on its value
+            serializePrimitive = primitive != null && model.shouldSerialize(Boolean.TRUE);
+        }
+
+        private void encode(BsonWriter writer, Object instance, EncoderContext encoderContext) {
+            if (primitive != null) {
+                if (serializePrimitive) {
+                    writer.writeName(mappedName);
+                    primitive.write(writer, instance);
+                }
+                return;
+            }
+            Object value = accessor.get(instance);
+            if (model.shouldSerialize(value)) {
+                writer.writeName(mappedName);
+                if (value == null) {
+                    writer.writeNull();
+                } else {
+                    encoderContext.encodeWithChildContext(codec, writer, value);
+                }
+            }
+        }
+    }
+
     @Nullable
     private IdGenerator getIdGenerator() {
         if (idGenerator == null) {
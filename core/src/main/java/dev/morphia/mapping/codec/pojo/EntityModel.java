@@ -1,5 +1,7 @@
 package dev.morphia.mapping.codec.pojo;
 
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
 import com.mongodb.lang.Nullable;
 import dev.morphia.Datastore;
 import dev.morphia.EntityInterceptor;
@@ -27,6 +29,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -55,11 +58,14 @@ public class EntityModel {
     private final String discriminator;
     private final Class<?> type;
     private final String collectionName;
-    private final List<EntityModel> subtypes = new ArrayList<>();
+    private final List<EntityModel> subtypes = new CopyOnWriteArrayList<>();
     private final EntityModel superClass;
     private final PropertyModel idProperty;
     private final PropertyModel versionProperty;
-    private Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods;
+    private final PropertyNameIndex nameIndex;
+    private final WriteConcern writeConcern;
+    private volatile MongoCollection<?> collection;
+    private volatile Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods;
 
     /**
      * Creates a new instance
@@ -95,6 +101,8 @@ public class EntityModel {
 
         this.datastore = builder.getDatastore();
         this.collectionName = builder.getCollectionName();
+        Entity entity = getEntityAnnotation();
+        writeConcern = entity != null && !entity.concern().isEmpty() ? WriteConcern.valueOf(entity.concern()) : null;
         creatorFactory = new InstanceCreatorFactoryImpl(this);
 
         if (superClass != null) {
@@ -102,18 +110,20 @@ public class EntityModel {
         }
         idProperty = getProperty(builder.idPropertyName());
         versionProperty = getProperty(builder.versionPropertyName());
+        nameIndex = new PropertyNameIndex(this, propertyModelsByMappedName, propertyModelsByName);
 
         builder.interfaces().forEach(i -> i.addSubtype(this));
     }
+
     /**
      * Invokes any lifecycle methods
      *
      * @param event    the event to run
      * @param entity   the entity to use
-     * @param document the document used in persistence
+     * @param document the document used in persistence.  this can be null only if {@link #isDocumentRequired(Class, Mapper)} is false.
      * @param mapper   the mapper to use
      */
-    public void callLifecycleMethods(Class<? extends Annotation> event, Object entity, Document document,
+    public void callLifecycleMethods(Class<? extends Annotation> event, Object entity, @Nullable Document document,
                                      Mapper mapper) {
         final List<ClassMethodPair> methodPairs = getLifecycleMethods().get(event);
         if (methodPairs != null) {
@@ -144,6 +154,28 @@ public class EntityModel {
         return annotations;
     }
 
+    /**
+     * Returns the collection for this type configured with any write concern named on the {@link Entity} annotation.  The collection is
+     * created on first use and reused afterwards.
+     *
+     * @param <T> the entity type
+     * @return the collection
+     * @morphia.internal
+     * @since 2.2
+     */
+    @SuppressWarnings("unchecked")
+    public <T> MongoCollection<T> getCollection() {
+        MongoCollection<?> local = collection;
+        if (local == null) {
+            local = datastore.getDatabase().getCollection(getCollectionName(), type);
+            if (writeConcern != null) {
+                local = local.withWriteConcern(writeConcern);
+            }
+            collection = local;
+        }
+        return (MongoCollection<T>) local;
+    }
+
     /**
      * @return the mapped collection name for the type
      */
@@ -241,19 +273,26 @@ public class EntityModel {
      * @return the lifecycle event methods
      */
     public Map<Class<? extends Annotation>, List<ClassMethodPair>> getLifecycleMethods() {
-        if (lifecycleMethods == null) {
-            lifecycleMethods = new HashMap<>();
-
-            final EntityListeners entityLisAnn = getAnnotation(EntityListeners.class);
-            if (entityLisAnn != null && entityLisAnn.value().length != 0) {
-                for (Class<?> aClass : entityLisAnn.value()) {
-                    mapEvent(aClass, true);
+        Map<Class<? extends Annotation>, List<ClassMethodPair>> methods = lifecycleMethods;
+        if (methods == null) {
+            synchronized (this) {
+                methods = lifecycleMethods;
+                if (methods == null) {
+                    methods = new HashMap<>();
+
+                    final EntityListeners entityLisAnn = getAnnotation(EntityListeners.class);
+                    if (entityLisAnn != null && entityLisAnn.value().length != 0) {
+                        for (Class<?> aClass : entityLisAnn.value()) {
+                            mapEvent(methods, aClass, ClassMethodPair.createListener(aClass));
+                        }
+                    }
+
+                    mapEvent(methods, getType(), null);
+                    lifecycleMethods = methods;
                 }
             }
-
-            mapEvent(getType(), false);
         }
-        return lifecycleMethods;
+        return methods;
     }
 
     /**
@@ -295,6 +334,39 @@ public class EntityModel {
         return versionProperty;
     }
 
+    /**
+     * @return the write concern named on the {@link Entity} annotation or null if there isn't one
+     * @since 2.2
+     */
+    @Nullable
+    public WriteConcern getWriteConcern() {
+        return writeConcern;
+    }
+
+    /**
+     * Checks whether running the given lifecycle event needs the {@code Document} form of the entity.  This is the case when there
+     * are global interceptors or when any of the event's methods declares a {@code Document} parameter.
+     *
+     * @param event  the lifecycle event type
+     * @param mapper the mapper to use
+     * @return true if the event needs the {@code Document}
+     * @since 2.2
+     */
+    public boolean isDocumentRequired(Class<? extends Annotation> event, Mapper mapper) {
+        if (mapper.hasInterceptors()) {
+            return true;
+        }
+        List<ClassMethodPair> methodPairs = getLifecycleMethods().get(event);
+        if (methodPairs != null) {
+            for (ClassMethodPair methodPair : methodPairs) {
+                if (methodPair.hasDocumentParameter()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * @param type the lifecycle event type
      * @return true if that even has been configured
@@ -357,6 +429,13 @@ public class EntityModel {
         return getType().isInterface();
     }
 
+    /**
+     * @return the index used to resolve document field names while decoding
+     */
+    PropertyNameIndex getNameIndex() {
+        return nameIndex;
+    }
+
     protected boolean useDiscriminator() {
         return discriminatorEnabled;
     }
@@ -368,7 +447,7 @@ public class EntityModel {
         }
     }
 
-    private void callGlobalInterceptors(Class<? extends Annotation> event, Object entity, Document document,
+    private void callGlobalInterceptors(Class<? extends Annotation> event, Object entity, @Nullable Document document,
                                         Mapper mapper) {
         for (EntityInterceptor ei : mapper.getInterceptors()) {
             Sofia.logCallingInterceptorMethod(event.getSimpleName(), ei);
@@ -405,12 +484,16 @@ public class EntityModel {
         return methods;
     }
 
-    private void mapEvent(Class<?> type, boolean entityListener) {
+    /**
+     * @param methods  the map to collect the lifecycle methods in
+     * @param listener the {@code @EntityListeners} instance to call the methods on or null if they are called on the entity itself
+     */
+    private void mapEvent(Map<Class<? extends Annotation>, List<ClassMethodPair>> methods, Class<?> type, @Nullable Object listener) {
         for (Method method : getDeclaredAndInheritedMethods(type)) {
             for (Class<? extends Annotation> annotationClass : LIFECYCLE_ANNOTATIONS) {
                 if (method.isAnnotationPresent(annotationClass)) {
-                    lifecycleMethods.computeIfAbsent(annotationClass, c -> new ArrayList<>())
-                                    .add(new ClassMethodPair(datastore, method, entityListener ? type : null, annotationClass));
+                    methods.computeIfAbsent(annotationClass, c -> new ArrayList<>())
+                           .add(new ClassMethodPair(datastore, method, listener, annotationClass));
                 }
             }
         }
@@ -0,0 +1,183 @@
+package dev.morphia.mapping.codec.pojo;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.annotations.PostLoad;
+import dev.morphia.annotations.PreLoad;
+import dev.morphia.mapping.codec.MorphiaInstanceCreator;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Decodes entities lazily.  The raw document is copied and handed to an instance of a generated subclass of the entity which decodes
+ * each property when it is first used.  Only the id and version are decoded up front.
+ *
+ * @morphia.internal
+ * @see dev.morphia.annotations.LazyLoad
+ * @since 2.2
+ */
+public class LazyDecoder extends EntityDecoder {
+    private static final RawBsonDocumentCodec RAW_CODEC = new RawBsonDocumentCodec();
+    private static final DecoderContext CHECKED = DecoderContext.builder().checkedDiscriminator(true).build();
+    private static final DecoderContext PROPERTY = DecoderContext.builder().build();
+
+    private final Map<String, PropertyModel> getters = new HashMap<>();
+    private final Map<String, PropertyModel> setters = new HashMap<>();
+    private final List<PropertyModel> eager = new ArrayList<>();
+    private final Map<PropertyModel, Codec<? super Object>> codecs = new IdentityHashMap<>();
+    private final Map<PropertyModel, PrimitiveProperty> primitives = new IdentityHashMap<>();
+
+    /**
+     * Creates the decoder
+     *
+     * @param codec the codec
+     * @param <T>   the type
+     */
+    public <T> LazyDecoder(MorphiaCodec<T> codec) {
+        super(codec);
+        EntityModel model = codec.getEntityModel();
+        for (PropertyModel property : model.getProperties()) {
+            // resolved against the lazy registry so they stay private to this decoder rather than replacing the shared eager codecs
+            Codec<? super Object> propertyCodec = codec.resolvePropertyCodec(property);
+            if (propertyCodec != null) {
+                codecs.put(property, propertyCodec);
+                PrimitiveProperty primitive = PrimitiveProperty.of(property.getAccessor(), propertyCodec);
+                if (primitive != null) {
+                    primitives.put(property, primitive);
+                }
+            }
+            String name = property.getName();
+            String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            getters.put("get" + suffix, property);
+            getters.put("is" + suffix, property);
+            setters.put("set" + suffix, property);
+        }
+        if (model.getIdProperty() != null) {
+            eager.add(model.getIdProperty());
+        }
+        if (model.getVersionProperty() != null) {
+            eager.add(model.getVersionProperty());
+        }
+    }
+
+    /**
+     * Checks whether a type can be loaded lazily.  The type must be public, concrete and not final with a public or protected no
+     * argument constructor and no load callbacks.
+     *
+     * @param model the model to check
+     * @return true if the type can be loaded lazily
+     */
+    public static boolean supports(EntityModel model) {
+        Class<?> type = model.getType();
+        int modifiers = type.getModifiers();
+        if (!Modifier.isPublic(modifiers) || Modifier.isFinal(modifiers) || model.isAbstract() || model.isInterface()
+            || type.isMemberClass() && !Modifier.isStatic(modifiers)
+            || model.hasLifecycle(PreLoad.class) || model.hasLifecycle(PostLoad.class)) {
+            return false;
+        }
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            return Modifier.isPublic(constructor.getModifiers()) || Modifier.isProtected(constructor.getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Object decode(BsonReader reader, DecoderContext decoderContext) {
+        MorphiaCodec<?> codec = getMorphiaCodec();
+        EntityModel model = codec.getEntityModel();
+        RawBsonDocument document = RAW_CODEC.decode(reader, decoderContext);
+        if (!decoderContext.hasCheckedDiscriminator() && model.useDiscriminator()) {
+            BsonValue value = document.get(model.getDiscriminatorKey());
+            String discriminator = value != null && value.isString() ? value.asString().getValue() : null;
+            if (discriminator != null && !discriminator.equals(model.getDiscriminator())) {
+                Class<?> type = codec.getDiscriminatorLookup().lookup(discriminator);
+                if (!type.equals(model.getType())) {
+                    return codec.getRegistry()
+                                .get(type)
+                                .decode(new BsonBinaryReader(document.getByteBuffer().asNIO()), CHECKED);
+                }
+            }
+        }
+
+        LazyEntityState state = new LazyEntityState(this, document);
+        Object entity = codec.getMapper().getProxyClassCache().newLazyInstance(model.getType(), state);
+        for (PropertyModel property : eager) {
+            state.load(entity, property);
+        }
+        return entity;
+    }
+
+    void decodeProperties(Object entity, RawBsonDocument document, Set<String> names) {
+        MorphiaInstanceCreator creator = new MorphiaInstanceCreator() {
+            @Override
+            public Object getInstance() {
+                return entity;
+            }
+
+            @Override
+            public Object getTarget() {
+                return entity;
+            }
+
+            @Override
+            public void set(@Nullable Object value, PropertyModel model) {
+                model.getAccessor().set(entity, value);
+            }
+        };
+        PropertyNameIndex index = getMorphiaCodec().getEntityModel().getNameIndex();
+        try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+            reader.readStartDocument();
+            int expected = 0;
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                int slot = index.find(reader.readName(), expected);
+                if (slot == PropertyNameIndex.UNKNOWN) {
+                    reader.skipValue();
+                    continue;
+                }
+                expected = slot + 1;
+                if (!index.isDiscriminator(slot) && names.contains(index.model(slot).getName())) {
+                    decodeModel(reader, PROPERTY, creator, index.model(slot));
+                } else {
+                    reader.skipValue();
+                }
+            }
+        }
+    }
+
+    @Override
+    Codec<? super Object> codec(PropertyModel model) {
+        return codecs.get(model);
+    }
+
+    @Override
+    @Nullable
+    PrimitiveProperty primitive(PropertyModel model) {
+        return primitives.get(model);
+    }
+
+    @Nullable
+    PropertyModel getter(String name) {
+        return getters.get(name);
+    }
+
+    @Nullable
+    PropertyModel setter(String name) {
+        return setters.get(name);
+    }
+}
@@ -0,0 +1,35 @@
+package dev.morphia.mapping.codec.pojo;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.mapping.codec.references.MorphiaProxy;
+
+/**
+ * Implemented by the generated subclasses of entities that are loaded lazily.
+ *
+ * @morphia.internal
+ * @see dev.morphia.annotations.LazyLoad
+ * @since 2.2
+ */
+public interface LazyEntity extends MorphiaProxy {
+    /**
+     * @return the state of the entity or null while it is being constructed
+     */
+    @Nullable
+    LazyEntityState morphiaLazyState();
+
+    @Override
+    default boolean isFetched() {
+        LazyEntityState state = morphiaLazyState();
+        return state == null || state.isLoaded();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    default <T> T unwrap() {
+        LazyEntityState state = morphiaLazyState();
+        if (state != null) {
+            state.loadAll(this);
+        }
+        return (T) this;
+    }
+}
@@ -0,0 +1,30 @@
+package dev.morphia.mapping.codec.pojo;
+
+import net.bytebuddy.implementation.bind.annotation.Origin;
+import net.bytebuddy.implementation.bind.annotation.This;
+
+import java.lang.reflect.Method;
+
+/**
+ * Called by the generated subclasses of lazy entities before each of the entity's own methods.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public final class LazyEntityInterceptor {
+    private LazyEntityInterceptor() {
+    }
+
+    /**
+     * Loads the properties a method needs
+     *
+     * @param entity the entity
+     * @param method the method about to be called
+     */
+    public static void intercept(@This Object entity, @Origin Method method) {
+        LazyEntityState state = ((LazyEntity) entity).morphiaLazyState();
+        if (state != null) {
+            state.beforeInvoke(entity, method);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package dev.morphia.mapping.codec.pojo;
+
+import org.bson.RawBsonDocument;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Holds the raw document of a lazily loaded entity and tracks which properties have yet to be decoded from it.  The document is released
+ * once every property is loaded.
+ *
+ * @morphia.internal
+ * @see dev.morphia.annotations.LazyLoad
+ * @since 2.2
+ */
+public class LazyEntityState {
+    private final LazyDecoder decoder;
+    private final Set<String> pending = new HashSet<>();
+    private volatile RawBsonDocument document;
+    private boolean loading;
+
+    LazyEntityState(LazyDecoder decoder, RawBsonDocument document) {
+        this.decoder = decoder;
+        this.document = document;
+        for (PropertyModel property : decoder.getMorphiaCodec().getEntityModel().getProperties()) {
+            pending.add(property.getName());
+        }
+    }
+
+    /**
+     * @return true once every property has been loaded
+     */
+    public boolean isLoaded() {
+        return document == null;
+    }
+
+    /**
+     * Loads a property if it has not been loaded yet
+     *
+     * @param entity   the entity
+     * @param property the property to load
+     */
+    public synchronized void load(Object entity, PropertyModel property) {
+        if (document != null && !loading && pending.remove(property.getName())) {
+            decode(entity, Set.of(property.getName()));
+        }
+    }
+
+    /**
+     * Loads every property not loaded yet
+     *
+     * @param entity the entity
+     */
+    public synchronized void loadAll(Object entity) {
+        if (document != null && !loading) {
+            decode(entity, pending);
+        }
+    }
+
+    /**
+     * Records that a property has been set on the entity so it is never overwritten by the value loaded from the document
+     *
+     * @param property the property
+     */
+    public synchronized void markLoaded(PropertyModel property) {
+        if (document != null && !loading && pending.remove(property.getName()) && pending.isEmpty()) {
+            document = null;
+        }
+    }
+
+    void beforeInvoke(Object entity, Method method) {
+        if (document == null) {
+            return;
+        }
+        int parameters = method.getParameterCount();
+        PropertyModel property = parameters == 0 ? decoder.getter(method.getName())
+                                                 : parameters == 1 ? decoder.setter(method.getName()) : null;
+        if (property == null) {
+            loadAll(entity);
+        } else if (parameters == 0) {
+            load(entity, property);
+        } else {
+            markLoaded(property);
+        }
+    }
+
+    private void decode(Object entity, Set<String> names) {
+        loading = true;
+        try {
+            decoder.decodeProperties(entity, document, names);
+        } finally {
+            loading = false;
+            if (names == pending) {
+                pending.clear();
+            }
+            if (pending.isEmpty()) {
+                document = null;
+            }
+        }
+    }
+}
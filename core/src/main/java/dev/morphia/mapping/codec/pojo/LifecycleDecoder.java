@@ -2,6 +2,7 @@ package dev.morphia.mapping.codec.pojo;
 
 import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PreLoad;
+import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import org.bson.BsonReader;
@@ -28,11 +29,21 @@ public class LifecycleDecoder extends EntityDecoder {
         final MorphiaInstanceCreator instanceCreator = getInstanceCreator();
         Object entity = instanceCreator.getInstance();
         EntityModel model = getMorphiaCodec().getEntityModel();
+        Mapper mapper = getMorphiaCodec().getMapper();
+
+        if (!model.isDocumentRequired(PreLoad.class, mapper) && !model.isDocumentRequired(PostLoad.class, mapper)) {
+            // no callback needs the Document so decode straight from the reader
+            model.callLifecycleMethods(PreLoad.class, entity, null, mapper);
+            decodeProperties(reader, decoderContext, instanceCreator);
+            model.callLifecycleMethods(PostLoad.class, entity, null, mapper);
+            return entity;
+        }
+
         Document document = getMorphiaCodec().getRegistry().get(Document.class).decode(reader, decoderContext);
 
-        model.callLifecycleMethods(PreLoad.class, entity, document, getMorphiaCodec().getMapper());
+        model.callLifecycleMethods(PreLoad.class, entity, document, mapper);
         decodeProperties(new DocumentReader(document), decoderContext, instanceCreator);
-        model.callLifecycleMethods(PostLoad.class, entity, document, getMorphiaCodec().getMapper());
+        model.callLifecycleMethods(PostLoad.class, entity, document, mapper);
 
         return entity;
     }
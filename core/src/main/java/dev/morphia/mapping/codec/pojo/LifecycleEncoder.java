@@ -28,6 +28,14 @@ public class LifecycleEncoder extends EntityEncoder {
         EntityModel model = getMorphiaCodec().getEntityModel();
         Mapper mapper = getMorphiaCodec().getMapper();
 
+        if (!model.isDocumentRequired(PrePersist.class, mapper) && !model.isDocumentRequired(PostPersist.class, mapper)) {
+            // no callback needs the Document so encode straight to the writer
+            model.callLifecycleMethods(PrePersist.class, value, null, mapper);
+            super.encode(writer, value, encoderContext);
+            model.callLifecycleMethods(PostPersist.class, value, null, mapper);
+            return;
+        }
+
         Document document = new Document();
         model.callLifecycleMethods(PrePersist.class, value, document, mapper);
 
@@ -1,18 +1,23 @@
 package dev.morphia.mapping.codec.pojo;
 
+import com.mongodb.lang.Nullable;
 import dev.morphia.Datastore;
+import dev.morphia.internal.EntitySnapshots;
 import dev.morphia.mapping.DiscriminatorLookup;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.PropertyCodecRegistryImpl;
 import dev.morphia.sofia.Sofia;
 import org.bson.BsonReader;
+import org.bson.BsonReaderMark;
 import org.bson.BsonValue;
 import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.CollectibleCodec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PropertyCodecProvider;
 import org.bson.codecs.pojo.PropertyCodecRegistry;
@@ -33,12 +38,14 @@ import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
  */
 @SuppressWarnings("unchecked")
 public class MorphiaCodec<T> implements CollectibleCodec<T> {
+    private static final RawBsonDocumentCodec RAW_CODEC = new RawBsonDocumentCodec();
     private final PropertyModel idProperty;
     private final Mapper mapper;
     private final EntityModel entityModel;
     private final CodecRegistry registry;
     private final PropertyCodecRegistry propertyCodecRegistry;
     private final DiscriminatorLookup discriminatorLookup;
+    private final EntitySnapshots snapshots;
     private EntityEncoder encoder;
     private EntityDecoder decoder;
 
@@ -54,6 +61,24 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     public MorphiaCodec(Datastore datastore, EntityModel model,
                         List<PropertyCodecProvider> propertyCodecProviders,
                         DiscriminatorLookup discriminatorLookup, CodecRegistry registry) {
+        this(datastore, model, propertyCodecProviders, discriminatorLookup, registry, true);
+    }
+
+    /**
+     * Creates a new codec
+     *
+     * @param datastore              the datastore
+     * @param model                  the model backing this codec
+     * @param propertyCodecProviders the codec provider for properties
+     * @param registry               the codec registry for lookups
+     * @param discriminatorLookup    the discriminator to type lookup
+     * @param shareCodecs            if true, the property codecs resolved are cached on the shared property models.  Codecs built
+     *                               against a registry other than the mapper's must not share theirs.
+     * @since 2.2
+     */
+    public MorphiaCodec(Datastore datastore, EntityModel model,
+                        List<PropertyCodecProvider> propertyCodecProviders,
+                        DiscriminatorLookup discriminatorLookup, CodecRegistry registry, boolean shareCodecs) {
         this.mapper = datastore.getMapper();
         this.discriminatorLookup = discriminatorLookup;
 
@@ -61,14 +86,26 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         this.registry = fromRegistries(fromCodecs(this), registry);
         this.propertyCodecRegistry = new PropertyCodecRegistryImpl(this, registry, propertyCodecProviders);
         idProperty = model.getIdProperty();
-        specializePropertyCodecs();
+        snapshots = model.getEntityAnnotation() != null ? mapper.getSnapshots() : null;
+        if (shareCodecs) {
+            specializePropertyCodecs();
+        }
         encoder = new EntityEncoder(this);
         decoder = new EntityDecoder(this);
     }
 
     @Override
     public T decode(BsonReader reader, DecoderContext decoderContext) {
-        return (T) getDecoder().decode(reader, decoderContext);
+        if (snapshots == null) {
+            return (T) getDecoder().decode(reader, decoderContext);
+        }
+        // copy the document before decoding it so a later save can tell what changed
+        BsonReaderMark mark = reader.getMark();
+        RawBsonDocument document = RAW_CODEC.decode(reader, decoderContext);
+        mark.reset();
+        T entity = (T) getDecoder().decode(reader, decoderContext);
+        snapshots.put(entity, document);
+        return entity;
     }
 
     @Override
@@ -145,18 +182,26 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         throw new UnsupportedOperationException();
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private void specializePropertyCodecs() {
         EntityModel entityModel = getEntityModel();
         for (PropertyModel propertyModel : entityModel.getProperties()) {
-            Codec codec = propertyModel.getCodec() != null ? propertyModel.getCodec()
-                                                           : propertyCodecRegistry.get(propertyModel.getTypeData());
+            Codec<? super Object> codec = resolvePropertyCodec(propertyModel);
             if (codec != null) {
                 propertyModel.cachedCodec(codec);
             }
         }
     }
 
+    /**
+     * Resolves the codec for a property against this codec's registry without caching it on the property
+     */
+    @Nullable
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Codec<? super Object> resolvePropertyCodec(PropertyModel propertyModel) {
+        Codec codec = propertyModel.getCodec();
+        return codec != null ? codec : propertyCodecRegistry.get(propertyModel.getTypeData());
+    }
+
     /**
      * @return the mapper being used
      */
@@ -0,0 +1,98 @@
+package dev.morphia.mapping.codec.pojo;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.mapping.codec.FieldHandleAccessor;
+import dev.morphia.mapping.codec.MethodHandleAccessor;
+import dev.morphia.mapping.codec.PrimitiveAccessor;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.BooleanCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DoubleCodec;
+import org.bson.codecs.IntegerCodec;
+import org.bson.codecs.LongCodec;
+import org.bson.codecs.pojo.PropertyAccessor;
+
+/**
+ * Reads and writes a primitive property without boxing its value.  This is only used for properties accessed through method handles
+ * which are encoded with the stock codec for their type so the result is the same as going through the codec.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+final class PrimitiveProperty {
+    private final PrimitiveAccessor accessor;
+    private final BsonType bsonType;
+
+    private PrimitiveProperty(PrimitiveAccessor accessor, BsonType bsonType) {
+        this.accessor = accessor;
+        this.bsonType = bsonType;
+    }
+
+    @Nullable
+    static PrimitiveProperty of(PropertyAccessor<?> propertyAccessor, Codec<?> codec) {
+        PrimitiveAccessor accessor = propertyAccessor instanceof FieldHandleAccessor
+                                     ? ((FieldHandleAccessor) propertyAccessor).getPrimitiveAccessor()
+                                     : propertyAccessor instanceof MethodHandleAccessor
+                                       ? ((MethodHandleAccessor) propertyAccessor).getPrimitiveAccessor()
+                                       : null;
+        if (accessor == null) {
+            return null;
+        }
+        Class<?> type = accessor.getType();
+        BsonType bsonType = null;
+        if (type == boolean.class && codec instanceof BooleanCodec) {
+            bsonType = BsonType.BOOLEAN;
+        } else if (type == int.class && codec instanceof IntegerCodec) {
+            bsonType = BsonType.INT32;
+        } else if (type == long.class && codec instanceof LongCodec) {
+            bsonType = BsonType.INT64;
+        } else if (type == double.class && codec instanceof DoubleCodec) {
+            bsonType = BsonType.DOUBLE;
+        }
+        return bsonType != null ? new PrimitiveProperty(accessor, bsonType) : null;
+    }
+
+    /**
+     * Reads the current value in to the property if it has the property's own BSON type.  Any other type is left for the codec to
+     * convert.
+     *
+     * @return true if the value was read
+     */
+    boolean read(BsonReader reader, Object instance) {
+        if (reader.getCurrentBsonType() != bsonType) {
+            return false;
+        }
+        switch (bsonType) {
+            case BOOLEAN:
+                accessor.setBoolean(instance, reader.readBoolean());
+                break;
+            case INT32:
+                accessor.setInt(instance, reader.readInt32());
+                break;
+            case INT64:
+                accessor.setLong(instance, reader.readInt64());
+                break;
+            default:
+                accessor.setDouble(instance, reader.readDouble());
+        }
+        return true;
+    }
+
+    void write(BsonWriter writer, Object instance) {
+        switch (bsonType) {
+            case BOOLEAN:
+                writer.writeBoolean(accessor.getBoolean(instance));
+                break;
+            case INT32:
+                writer.writeInt32(accessor.getInt(instance));
+                break;
+            case INT64:
+                writer.writeInt64(accessor.getLong(instance));
+                break;
+            default:
+                writer.writeDouble(accessor.getDouble(instance));
+        }
+    }
+}
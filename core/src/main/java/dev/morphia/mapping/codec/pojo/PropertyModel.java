@@ -45,6 +45,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.function.Function;
 
 import static java.util.Arrays.asList;
 
@@ -64,7 +65,9 @@ public final class PropertyModel {
     private final Map<Class<? extends Annotation>, Annotation> annotationMap = new HashMap<>();
     private final List<String> loadNames; // List of stored names in order of trying, contains nameToStore and potential aliases
     private final EntityModel entityModel;
+    private final Function<Object, ?> converter;
     private volatile Codec<? super Object> cachedCodec;
+    private volatile PrimitiveProperty primitive;
     private Class<?> normalizedType;
 
     PropertyModel(PropertyModelBuilder builder) {
@@ -73,6 +76,7 @@ public final class PropertyModel {
         mappedName = Objects.requireNonNull(builder.mappedName(), Sofia.notNull("name"));
         typeData = Objects.requireNonNull(builder.typeData(), Sofia.notNull("typeData"));
         accessor = builder.accessor();
+        converter = Conversions.converter(typeData.getType());
         serialization = builder.serialization();
         builder.annotations().forEach(ann -> annotationMap.put(ann.annotationType(), ann));
         configureCodec(builder.datastore());
@@ -156,7 +160,12 @@ public final class PropertyModel {
     @Nullable
     public Object getValue(Object instance) {
         Object target = instance;
-        if (target instanceof MorphiaProxy) {
+        if (target instanceof LazyEntity) {
+            LazyEntityState state = ((LazyEntity) target).morphiaLazyState();
+            if (state != null) {
+                state.load(target, this);
+            }
+        } else if (target instanceof MorphiaProxy) {
             target = ((MorphiaProxy) instance).unwrap();
         }
         return accessor.get(target);
@@ -293,7 +302,24 @@ public final class PropertyModel {
      * @param value    the value to set
      */
     public void setValue(Object instance, @Nullable Object value) {
-        accessor.set(instance, Conversions.convert(value, getType()));
+        if (instance instanceof LazyEntity) {
+            LazyEntityState state = ((LazyEntity) instance).morphiaLazyState();
+            if (state != null) {
+                state.markLoaded(this);
+            }
+        }
+        accessor.set(instance, converter.apply(value));
+    }
+
+    /**
+     * Converts a value to this property's type using the converter resolved when the property was mapped
+     *
+     * @param value the value to convert
+     * @return the potentially converted value
+     */
+    @Nullable
+    Object convert(@Nullable Object value) {
+        return converter.apply(value);
     }
 
     private void configureCodec(Datastore datastore) {
@@ -413,6 +439,15 @@ public final class PropertyModel {
 
     void cachedCodec(Codec<? super Object> codec) {
         this.cachedCodec = codec;
+        primitive = PrimitiveProperty.of(getAccessor(), codec);
+    }
+
+    /**
+     * @return the unboxed reader and writer for this property if it has one
+     */
+    @Nullable
+    PrimitiveProperty primitive() {
+        return primitive;
     }
 
 }
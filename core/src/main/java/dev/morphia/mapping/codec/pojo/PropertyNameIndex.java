@@ -0,0 +1,104 @@
+package dev.morphia.mapping.codec.pojo;
+
+import com.mongodb.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves document field names to properties while decoding.  Fields are laid out in the order {@code EntityEncoder} writes them: the
+ * ID, the discriminator, and then the remaining properties.  Each lookup first checks the slot following the previous match so that
+ * documents stored in that order resolve each field with a single comparison.  Any other name falls back to a single map lookup covering
+ * mapped names, {@code @AlsoLoad} names and java property names.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+final class PropertyNameIndex {
+    /**
+     * The slot value returned for names that do not map to anything on the entity
+     */
+    static final int UNKNOWN = -1;
+
+    private final String[] names;
+    private final PropertyModel[] models;
+    private final Map<String, Integer> slots = new HashMap<>();
+
+    PropertyNameIndex(EntityModel model, Map<String, PropertyModel> byMappedName, Map<String, PropertyModel> byName) {
+        List<String> slotNames = new ArrayList<>();
+        List<PropertyModel> slotModels = new ArrayList<>();
+        PropertyModel idProperty = model.getIdProperty();
+        if (idProperty != null) {
+            slotOf(idProperty, slotNames, slotModels);
+        }
+        int discriminatorSlot = UNKNOWN;
+        if (model.useDiscriminator()) {
+            discriminatorSlot = slotModels.size();
+            slotNames.add(model.getDiscriminatorKey());
+            slotModels.add(null);
+        }
+        for (PropertyModel property : byName.values()) {
+            slotOf(property, slotNames, slotModels);
+        }
+
+        byMappedName.forEach((name, property) -> slots.put(name, slotOf(property, slotNames, slotModels)));
+        byName.forEach((name, property) -> slots.putIfAbsent(name, slotOf(property, slotNames, slotModels)));
+        if (discriminatorSlot != UNKNOWN) {
+            slots.put(model.getDiscriminatorKey(), discriminatorSlot);
+        }
+
+        names = slotNames.toArray(new String[0]);
+        models = slotModels.toArray(new PropertyModel[0]);
+        for (int i = 0; i < names.length; i++) {
+            if (!Integer.valueOf(i).equals(slots.get(names[i]))) {
+                // another mapping takes precedence for this name so never match it positionally
+                names[i] = null;
+            }
+        }
+    }
+
+    private static int slotOf(PropertyModel property, List<String> slotNames, List<PropertyModel> slotModels) {
+        for (int i = 0; i < slotModels.size(); i++) {
+            if (slotModels.get(i) == property) {
+                return i;
+            }
+        }
+        slotNames.add(property.getMappedName());
+        slotModels.add(property);
+        return slotModels.size() - 1;
+    }
+
+    /**
+     * Finds the slot for a field name
+     *
+     * @param name     the field name
+     * @param expected the slot expected to hold the field, typically the slot after the last match
+     * @return the slot or {@link #UNKNOWN}
+     */
+    int find(String name, int expected) {
+        if (expected < names.length && name.equals(names[expected])) {
+            return expected;
+        }
+        Integer slot = slots.get(name);
+        return slot != null ? slot : UNKNOWN;
+    }
+
+    /**
+     * @param slot the slot to check
+     * @return true if the slot holds the discriminator
+     */
+    boolean isDiscriminator(int slot) {
+        return models[slot] == null;
+    }
+
+    /**
+     * @param slot the slot to fetch
+     * @return the property model in the slot or null if the slot holds the discriminator
+     */
+    @Nullable
+    PropertyModel model(int slot) {
+        return models[slot];
+    }
+}
@@ -22,6 +22,7 @@ import org.bson.types.ObjectId;
 import java.util.List;
 import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static java.lang.String.format;
 
@@ -30,6 +31,7 @@ import static java.lang.String.format;
  */
 public class DocumentReader implements BsonReader {
     private static final BsonTypeMap TYPE_MAP = new BsonTypeMap();
+    private static final Function<Object, Long> DATE_TIME = Conversions.converter(long.class);
     private final ReaderState start;
     private ReaderState current;
 
@@ -117,7 +119,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public long readDateTime() {
-        Long value = Conversions.convert(stage().value(), long.class);
+        Long value = DATE_TIME.apply(stage().value());
         if (value != null) {
             return value;
         }
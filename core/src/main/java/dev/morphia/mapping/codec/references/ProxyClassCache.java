@@ -0,0 +1,184 @@
+package dev.morphia.mapping.codec.references;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.LazyEntity;
+import dev.morphia.mapping.codec.pojo.LazyEntityInterceptor;
+import dev.morphia.mapping.codec.pojo.LazyEntityState;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.implementation.SuperMethodCall;
+import net.bytebuddy.matcher.ElementMatchers;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the generated classes used for lazy reference proxies and lazily loaded entities.  A proxy class is generated once per type and
+ * class loader and every subsequent proxy only costs a constructor call.  The {@link InvocationHandler} is stored per instance rather than
+ * being baked in to the generated class.  Since the handler is only assigned after construction, calls a constructor makes to its own
+ * methods run the original methods.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class ProxyClassCache {
+    static final String HANDLER_FIELD = "morphiaProxyHandler";
+    private static final String STATE_FIELD = "morphiaLazyState";
+
+    private final Map<ProxyKey, ProxyType> proxyTypes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ProxyType> lazyTypes = new ConcurrentHashMap<>();
+    private final AtomicLong generated = new AtomicLong();
+
+    /**
+     * @return the number of proxy classes generated by this cache
+     */
+    public long getGeneratedCount() {
+        return generated.get();
+    }
+
+    /**
+     * Creates a new proxy instance for the given type
+     *
+     * @param type    the type to proxy
+     * @param loader  the class loader to define the proxy class with
+     * @param handler the handler to delegate calls to
+     * @param <T>     the proxied type
+     * @return the new proxy
+     */
+    public <T> T newInstance(Class<T> type, @Nullable ClassLoader loader, InvocationHandler handler) {
+        ProxyType proxyType = proxyTypes.computeIfAbsent(new ProxyKey(type, loader), key -> generate(type, loader));
+        try {
+            Object proxy = proxyType.constructor.newInstance();
+            proxyType.handler.set(proxy, handler);
+            return type.cast(proxy);
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates a new instance of a lazily loaded entity
+     *
+     * @param type  the entity type
+     * @param state the state holding the entity's document
+     * @param <T>   the entity type
+     * @return the new entity
+     * @see dev.morphia.annotations.LazyLoad
+     * @since 2.2
+     */
+    public <T> T newLazyInstance(Class<T> type, LazyEntityState state) {
+        ProxyType lazyType = lazyTypes.computeIfAbsent(type, this::generateLazy);
+        try {
+            Object entity = lazyType.constructor.newInstance();
+            lazyType.handler.set(entity, state);
+            return type.cast(entity);
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    private ProxyType generateLazy(Class<?> type) {
+        try {
+            Class<?> lazyClass = new ByteBuddy()
+                                     .subclass(type)
+                                     .implement(LazyEntity.class)
+                                     .name(type.getName() + "$$Lazy")
+                                     .defineField(STATE_FIELD, LazyEntityState.class, Visibility.PUBLIC)
+
+                                     .method(ElementMatchers.named(STATE_FIELD).and(ElementMatchers.takesArguments(0)))
+                                     .intercept(FieldAccessor.ofField(STATE_FIELD))
+
+                                     .method(ElementMatchers.not(ElementMatchers.isDeclaredBy(Object.class))
+                                                            .and(ElementMatchers.not(ElementMatchers.isDeclaredBy(LazyEntity.class)))
+                                                            .and(ElementMatchers.not(ElementMatchers.isDeclaredBy(MorphiaProxy.class))))
+                                     .intercept(MethodDelegation.to(LazyEntityInterceptor.class).andThen(SuperMethodCall.INSTANCE))
+
+                                     .make()
+                                     .load(type.getClassLoader(), Default.WRAPPER)
+                                     .getLoaded();
+            ProxyType lazyType = new ProxyType(lazyClass.getDeclaredConstructor(), lazyClass.getField(STATE_FIELD));
+            generated.incrementAndGet();
+            return lazyType;
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    private ProxyType generate(Class<?> type, @Nullable ClassLoader loader) {
+        String name = (type.getPackageName().startsWith("java") ? type.getSimpleName() : type.getName()) + "$$Proxy";
+        try {
+            Class<?> proxyClass = new ByteBuddy()
+                                      .subclass(type)
+                                      .implement(MorphiaProxy.class)
+                                      .name(name)
+                                      .defineField(HANDLER_FIELD, InvocationHandler.class, Visibility.PUBLIC)
+
+                                      .invokable(ElementMatchers.isDeclaredBy(type))
+                                      .intercept(InvocationHandlerAdapter.toField(HANDLER_FIELD))
+
+                                      .method(ElementMatchers.isDeclaredBy(type)
+                                                             .and(ElementMatchers.not(ElementMatchers.isAbstract()))
+                                                             .and(ElementMatchers.not(ElementMatchers.isDefaultMethod())))
+                                      .intercept(MethodDelegation.to(ProxyInterceptor.class))
+
+                                      .method(ElementMatchers.isDeclaredBy(MorphiaProxy.class))
+                                      .intercept(InvocationHandlerAdapter.toField(HANDLER_FIELD))
+
+                                      .make()
+                                      .load(loader, Default.WRAPPER)
+                                      .getLoaded();
+            ProxyType proxyType = new ProxyType(proxyClass.getDeclaredConstructor(), proxyClass.getField(HANDLER_FIELD));
+            generated.incrementAndGet();
+            return proxyType;
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    private static final class ProxyKey {
+        private final Class<?> type;
+        private final ClassLoader loader;
+
+        private ProxyKey(Class<?> type, @Nullable ClassLoader loader) {
+            this.type = type;
+            this.loader = loader;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, loader);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ProxyKey)) {
+                return false;
+            }
+            ProxyKey that = (ProxyKey) o;
+            return type.equals(that.type) && Objects.equals(loader, that.loader);
+        }
+    }
+
+    private static final class ProxyType {
+        private final Constructor<?> constructor;
+        private final Field handler;
+
+        private ProxyType(Constructor<?> constructor, Field handler) {
+            this.constructor = constructor;
+            this.handler = handler;
+        }
+    }
+}
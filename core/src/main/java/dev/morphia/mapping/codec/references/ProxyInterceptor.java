@@ -0,0 +1,45 @@
+package dev.morphia.mapping.codec.references;
+
+import net.bytebuddy.implementation.bind.annotation.AllArguments;
+import net.bytebuddy.implementation.bind.annotation.FieldValue;
+import net.bytebuddy.implementation.bind.annotation.Origin;
+import net.bytebuddy.implementation.bind.annotation.RuntimeType;
+import net.bytebuddy.implementation.bind.annotation.SuperCall;
+import net.bytebuddy.implementation.bind.annotation.This;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+
+/**
+ * Called by the generated proxy classes for each of the proxied type's concrete methods.  The handler is only assigned once the proxy has
+ * been constructed so any call made from the proxied type's constructor runs the original method instead.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public final class ProxyInterceptor {
+    private ProxyInterceptor() {
+    }
+
+    /**
+     * Delegates a call to the proxy's handler
+     *
+     * @param proxy     the proxy
+     * @param method    the method called
+     * @param arguments the arguments to the method
+     * @param handler   the proxy's handler or null if the proxy is still being constructed
+     * @param original  the original method
+     * @return the result of the call
+     * @throws Throwable if the call fails
+     */
+    @RuntimeType
+    public static Object intercept(@This Object proxy, @Origin Method method, @AllArguments Object[] arguments,
+                                   @FieldValue(ProxyClassCache.HANDLER_FIELD) InvocationHandler handler,
+                                   @SuperCall Callable<?> original) throws Throwable {
+        if (handler == null) {
+            return original.call();
+        }
+        return handler.invoke(proxy, method, arguments);
+    }
+}
@@ -0,0 +1,148 @@
+package dev.morphia.mapping.codec.references;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
+import dev.morphia.annotations.Reference;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static dev.morphia.query.experimental.filters.Filters.in;
+
+/**
+ * Holds the entities referenced by a page of documents.  The IDs of every eager {@code @Reference} in the page are collected per
+ * collection and fetched with one query per collection.  While the batch is open, references decoded on the current thread are resolved
+ * from the batch rather than with a query per reference.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public final class ReferenceBatch implements AutoCloseable {
+    private static final ThreadLocal<ReferenceBatch> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Map<Object, Object>> entities = new HashMap<>();
+    @Nullable
+    private ReferenceBatch previous;
+
+    private ReferenceBatch() {
+    }
+
+    /**
+     * @return the batch open on the current thread, if any
+     */
+    @Nullable
+    public static ReferenceBatch current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Fetches the entities referenced by the given documents and opens the batch on the current thread.  The batch must be closed once the
+     * documents have been decoded.
+     *
+     * @param datastore the datastore to use
+     * @param model     the model of the type being queried
+     * @param documents the documents about to be decoded
+     * @return the open batch
+     */
+    public static ReferenceBatch open(Datastore datastore, EntityModel model, List<Document> documents) {
+        Mapper mapper = datastore.getMapper();
+        Map<String, Set<Object>> ids = new LinkedHashMap<>();
+        for (Document document : documents) {
+            EntityModel documentModel = model;
+            Class<?> type = mapper.getClass(document);
+            if (type != null && model.getType().isAssignableFrom(type)) {
+                documentModel = mapper.getEntityModel(type);
+            }
+            collect(mapper, documentModel, document, ids);
+        }
+
+        ReferenceBatch batch = new ReferenceBatch();
+        ids.forEach((collection, values) -> batch.fetch(datastore, collection, values));
+        batch.previous = CURRENT.get();
+        CURRENT.set(batch);
+        return batch;
+    }
+
+    private static void collect(Mapper mapper, EntityModel model, Document document, Map<String, Set<Object>> ids) {
+        for (PropertyModel property : model.getProperties(Reference.class)) {
+            Reference reference = property.getAnnotation(Reference.class);
+            Object value = document.get(property.getMappedName());
+            if (value == null || reference.lazy() || Map.class.isAssignableFrom(property.getType())) {
+                continue;
+            }
+            EntityModel target = mapper.getEntityModel(property.getNormalizedType());
+            if (value instanceof List) {
+                for (Object element : (List<?>) value) {
+                    collectId(target, element, ids);
+                }
+            } else {
+                collectId(target, value, ids);
+            }
+        }
+    }
+
+    private static void collectId(EntityModel target, @Nullable Object value, Map<String, Set<Object>> ids) {
+        String collection = target.getCollectionName();
+        Object id = value;
+        if (value instanceof DBRef) {
+            collection = ((DBRef) value).getCollectionName();
+            id = ((DBRef) value).getId();
+        } else if (value instanceof Document && ((Document) value).containsKey("$ref")) {
+            collection = ((Document) value).getString("$ref");
+            id = ((Document) value).get("$id");
+        }
+        // embedded IDs are decoded in to entities before they're compared so leave those to the regular lookup
+        if (id != null && !(id instanceof Document) && !(id instanceof List)) {
+            ids.computeIfAbsent(collection, k -> new LinkedHashSet<>()).add(id);
+        }
+    }
+
+    private void fetch(Datastore datastore, String collection, Set<Object> ids) {
+        Map<Object, Object> found = new HashMap<>();
+        try (MongoCursor<Object> cursor = datastore.find(collection)
+                                                   .disableValidation()
+                                                   .filter(in("_id", new ArrayList<>(ids)))
+                                                   .iterator()) {
+            while (cursor.hasNext()) {
+                Object entity = cursor.next();
+                found.put(datastore.getMapper().getId(entity), entity);
+            }
+        }
+        entities.put(collection, found);
+    }
+
+    /**
+     * @param collection the collection name
+     * @param id         the ID
+     * @return the fetched entity or null if the batch does not hold it.  Missing entities are left to the regular lookup so that it can
+     * report them.
+     */
+    @Nullable
+    public Object get(String collection, Object id) {
+        Map<Object, Object> fetched = entities.get(collection);
+        return fetched != null ? fetched.get(id) : null;
+    }
+
+    /**
+     * Closes this batch and restores any batch that was open before it
+     */
+    @Override
+    public void close() {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -24,11 +24,6 @@ import dev.morphia.mapping.experimental.SingleReference;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.query.QueryException;
 import dev.morphia.sofia.Sofia;
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.dynamic.DynamicType.Loaded;
-import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
-import net.bytebuddy.implementation.InvocationHandlerAdapter;
-import net.bytebuddy.matcher.ElementMatchers;
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.Document;
@@ -269,28 +264,10 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
 
     private <T> T createProxy(MorphiaReference<?> reference) {
         ReferenceProxy referenceProxy = new ReferenceProxy(reference);
-        try {
-            Class<?> type = getPropertyModel().getType();
-            String name = (type.getPackageName().startsWith("java") ? type.getSimpleName() : type.getName()) + "$$Proxy";
-            return ((Loaded<T>) new ByteBuddy()
-                                    .subclass(type)
-                                    .implement(MorphiaProxy.class)
-                                    .name(name)
-
-                                    .invokable(ElementMatchers.isDeclaredBy(type))
-                                    .intercept(InvocationHandlerAdapter.of(referenceProxy))
-
-                                    .method(ElementMatchers.isDeclaredBy(MorphiaProxy.class))
-                                    .intercept(InvocationHandlerAdapter.of(referenceProxy))
-
-                                    .make()
-                                    .load(Thread.currentThread().getContextClassLoader(), Default.WRAPPER))
-                       .getLoaded()
-                       .getDeclaredConstructor()
-                       .newInstance();
-        } catch (ReflectiveOperationException | IllegalArgumentException e) {
-            throw new MappingException(e.getMessage(), e);
-        }
+        Class<T> type = (Class<T>) getPropertyModel().getType();
+        return getDatastore().getMapper()
+                             .getProxyClassCache()
+                             .newInstance(type, Thread.currentThread().getContextClassLoader(), referenceProxy);
     }
 
     @Nullable
@@ -1,9 +1,13 @@
 package dev.morphia.mapping.codec.writer;
 
+import com.mongodb.lang.Nullable;
+import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
 class DocumentState extends WriteState {
     private final Document document;
+    @Nullable
+    private String name;
 
     DocumentState(DocumentWriter writer) {
         super(writer);
@@ -33,15 +37,53 @@ class DocumentState extends WriteState {
 
     @Override
     protected String state() {
-        return "name";
+        return name == null ? "name" : "value";
     }
 
     @Override
-    NameState name(String name) {
-        return new NameState(getWriter(), name, document);
+    WriteState array() {
+        ArrayState arrayState = new ArrayState(getWriter());
+        document.put(takeName("array"), arrayState.getList());
+        return arrayState;
+    }
+
+    @Override
+    WriteState document() {
+        String key = takeName("document");
+        Object extant = document.get(key);
+        if (extant instanceof Document) {
+            return new DocumentState(getWriter(), (Document) extant);
+        }
+        DocumentState documentState = new DocumentState(getWriter());
+        document.put(key, documentState.getDocument());
+        return documentState;
+    }
+
+    /**
+     * Names are held here until their value arrives rather than in a state of their own so writing a field allocates nothing beyond the
+     * value itself.
+     */
+    @Override
+    WriteState name(String name) {
+        this.name = name;
+        return this;
+    }
+
+    @Override
+    void value(Object value) {
+        document.put(takeName("value"), value);
     }
 
     Document getDocument() {
         return document;
     }
+
+    private String takeName(String action) {
+        String current = name;
+        if (current == null) {
+            throw new IllegalStateException(Sofia.notInValidState(action, state()));
+        }
+        name = null;
+        return current;
+    }
 }
@@ -18,9 +18,7 @@ import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.Date;
 
 /**
  * Utility to write out to a Document
@@ -99,9 +97,6 @@ public class DocumentWriter implements BsonWriter {
 
     public void previous() {
         state(state.previous());
-        if (state() instanceof NameState) {
-            previous();
-        }
     }
 
     public WriteState state() {
@@ -130,12 +125,12 @@ public class DocumentWriter implements BsonWriter {
 
     @Override
     public void writeDateTime(long value) {
-        state.value(LocalDateTime.ofInstant(Instant.ofEpochMilli(value), ZoneOffset.UTC));
+        state.value(new Date(value));
     }
 
     @Override
     public void writeDateTime(String name, long value) {
-        state.name(name).value(LocalDateTime.ofInstant(Instant.ofEpochMilli(value), ZoneOffset.UTC));
+        state.name(name).value(new Date(value));
     }
 
     @Override
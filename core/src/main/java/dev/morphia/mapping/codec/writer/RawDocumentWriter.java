@@ -0,0 +1,94 @@
+package dev.morphia.mapping.codec.writer;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.RawBsonDocument;
+import org.bson.io.BasicOutputBuffer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes straight to BSON bytes for documents that are only handed to the driver.  Unlike {@link DocumentWriter} this can not merge
+ * values written more than once under the same name so it records when that happens.  Callers should check
+ * {@link #hasDuplicateNames()} and encode again with a {@code DocumentWriter} when it returns true.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class RawDocumentWriter extends BsonBinaryWriter {
+    private final BasicOutputBuffer buffer;
+    private final List<String> names = new ArrayList<>();
+    private int[] starts = new int[8];
+    private int depth;
+    private boolean duplicates;
+
+    /**
+     * Creates a new writer
+     */
+    public RawDocumentWriter() {
+        this(new BasicOutputBuffer());
+    }
+
+    private RawDocumentWriter(BasicOutputBuffer buffer) {
+        super(buffer);
+        this.buffer = buffer;
+    }
+
+    /**
+     * Checks whether a name has already been written to the document currently open
+     *
+     * @param name the name to look for
+     * @return true if the name has been written
+     */
+    public boolean containsName(String name) {
+        for (int i = depth == 0 ? 0 : starts[depth - 1]; i < names.size(); i++) {
+            if (names.get(i).equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the document written
+     */
+    public RawBsonDocument getDocument() {
+        return new RawBsonDocument(buffer.getInternalBuffer(), 0, buffer.getPosition());
+    }
+
+    /**
+     * @return true if a name was written more than once to the same document
+     */
+    public boolean hasDuplicateNames() {
+        return duplicates;
+    }
+
+    @Override
+    public void writeEndDocument() {
+        super.writeEndDocument();
+        depth--;
+        int start = starts[depth];
+        while (names.size() > start) {
+            names.remove(names.size() - 1);
+        }
+    }
+
+    @Override
+    public void writeName(String name) {
+        if (!duplicates && containsName(name)) {
+            duplicates = true;
+        }
+        super.writeName(name);
+        names.add(name);
+    }
+
+    @Override
+    public void writeStartDocument() {
+        super.writeStartDocument();
+        if (depth == starts.length) {
+            starts = Arrays.copyOf(starts, depth * 2);
+        }
+        starts[depth++] = names.size();
+    }
+}
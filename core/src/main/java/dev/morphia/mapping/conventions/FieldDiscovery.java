@@ -1,14 +1,18 @@
 package dev.morphia.mapping.conventions;
 
 import dev.morphia.Datastore;
+import dev.morphia.mapping.MapperOptions;
+import dev.morphia.mapping.MapperOptions.PropertyAccess;
 import dev.morphia.mapping.codec.ArrayFieldAccessor;
 import dev.morphia.mapping.codec.FieldAccessor;
+import dev.morphia.mapping.codec.FieldHandleAccessor;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
 import dev.morphia.mapping.codec.pojo.PropertyModelBuilder;
 import dev.morphia.mapping.codec.pojo.TypeData;
 import org.bson.codecs.pojo.PropertyAccessor;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,6 +20,7 @@ public class FieldDiscovery implements MorphiaConvention {
 
     @Override
     public void apply(Datastore datastore, EntityModelBuilder builder) {
+        MapperOptions options = datastore.getMapper().getOptions();
         List<Class<?>> list = new ArrayList<>(List.of(builder.getType()));
         list.addAll(builder.classHierarchy());
 
@@ -27,16 +32,19 @@ public class FieldDiscovery implements MorphiaConvention {
                     .name(field.getName())
                     .typeData(builder.getTypeData(type, TypeData.newInstance(field), field.getGenericType()))
                     .annotations(List.of(field.getDeclaredAnnotations()))
-                    .accessor(getAccessor(field, propertyModelBuilder))
+                    .accessor(getAccessor(field, propertyModelBuilder, options))
                     .modifiers(field.getModifiers())
-                    .mappedName(propertyModelBuilder.discoverMappedName(datastore.getMapper().getOptions()));
+                    .mappedName(propertyModelBuilder.discoverMappedName(options));
             }
         }
     }
 
-    private PropertyAccessor<? super Object> getAccessor(Field field, PropertyModelBuilder property) {
-        return field.getType().isArray() && !field.getType().getComponentType().equals(byte.class)
-               ? new ArrayFieldAccessor(property.typeData(), field)
+    private PropertyAccessor<? super Object> getAccessor(Field field, PropertyModelBuilder property, MapperOptions options) {
+        if (field.getType().isArray() && !field.getType().getComponentType().equals(byte.class)) {
+            return new ArrayFieldAccessor(property.typeData(), field);
+        }
+        return options.getPropertyAccess() == PropertyAccess.METHOD_HANDLES && !Modifier.isStatic(field.getModifiers())
+               ? new FieldHandleAccessor(field)
                : new FieldAccessor(field);
     }
 }
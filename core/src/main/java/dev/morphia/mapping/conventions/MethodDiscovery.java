@@ -1,13 +1,18 @@
 package dev.morphia.mapping.conventions;
 
 import dev.morphia.Datastore;
+import dev.morphia.mapping.MapperOptions;
+import dev.morphia.mapping.MapperOptions.PropertyAccess;
 import dev.morphia.mapping.codec.MethodAccessor;
+import dev.morphia.mapping.codec.MethodHandleAccessor;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
 import dev.morphia.mapping.codec.pojo.PropertyModelBuilder;
 import dev.morphia.mapping.codec.pojo.TypeData;
+import org.bson.codecs.pojo.PropertyAccessor;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -68,16 +73,23 @@ public class MethodDiscovery implements MorphiaConvention {
                 TypeData<?> typeData = entityModelBuilder.getTypeData(type, TypeData.newInstance(methods.getter),
                     methods.getter.getGenericReturnType());
 
+                MapperOptions options = datastore.getMapper().getOptions();
                 PropertyModelBuilder builder = entityModelBuilder.addProperty();
                 builder.name(entry.getKey())
-                       .accessor(new MethodAccessor(methods.getter, methods.setter))
+                       .accessor(getAccessor(methods.getter, methods.setter, options))
                        .annotations(discoverAnnotations(methods.getter, methods.setter))
                        .typeData(typeData)
-                       .mappedName(builder.discoverMappedName(datastore.getMapper().getOptions()));
+                       .mappedName(builder.discoverMappedName(options));
             }
         }
     }
 
+    private PropertyAccessor<? super Object> getAccessor(Method getter, Method setter, MapperOptions options) {
+        return options.getPropertyAccess() == PropertyAccess.METHOD_HANDLES && !Modifier.isStatic(getter.getModifiers())
+               ? new MethodHandleAccessor(getter, setter)
+               : new MethodAccessor(getter, setter);
+    }
+
     private String stripPrefix(Method method, int size) {
         String name = method.getName().substring(size);
         name = name.substring(0, 1).toLowerCase() + name.substring(1);
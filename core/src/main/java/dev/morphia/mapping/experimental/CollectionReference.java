@@ -3,11 +3,16 @@ package dev.morphia.mapping.experimental;
 import com.mongodb.DBRef;
 import com.mongodb.client.MongoCursor;
 import dev.morphia.Datastore;
+import dev.morphia.internal.EntityCache;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.mapping.codec.references.ReferenceCodec;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -154,21 +159,73 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
     Map<Object, Object> query(String collection, List<Object> collectionIds) {
 
         final Map<Object, Object> idMap = new HashMap<>();
-        try (MongoCursor<?> cursor = getDatastore().find(collection)
-                                                   .disableValidation()
-                                                   .filter(in("_id", collectionIds)).iterator()) {
-            while (cursor.hasNext()) {
-                final Object entity = cursor.next();
-                idMap.put(getDatastore().getMapper().getId(entity), entity);
+        ReferenceBatch batch = ReferenceBatch.current();
+        if (batch != null) {
+            boolean complete = true;
+            for (Object id : collectionIds) {
+                Object entity = batch.get(collection, id);
+                complete &= entity != null;
+                idMap.put(id, entity);
             }
+            if (complete) {
+                return idMap;
+            }
+            idMap.clear();
+        }
+        Mapper mapper = getDatastore().getMapper();
+        Class<?> type = mapper.getClassFromCollection(collection);
+        EntityCache cache = mapper.getEntityCache(type);
+        if (cache != null) {
+            queryCached(cache, type, collectionIds, idMap);
+        } else {
+            try (MongoCursor<?> cursor = getDatastore().find(collection)
+                                                       .disableValidation()
+                                                       .filter(in("_id", collectionIds)).iterator()) {
+                while (cursor.hasNext()) {
+                    final Object entity = cursor.next();
+                    idMap.put(mapper.getId(entity), entity);
+                }
+            }
+        }
 
-            if (!ignoreMissing() && idMap.size() != collectionIds.size()) {
-                throw new ReferenceException(
-                    Sofia.missingReferencedEntities(entityModel.getType().getSimpleName()));
+        if (!ignoreMissing() && idMap.size() != collectionIds.size()) {
+            throw new ReferenceException(
+                Sofia.missingReferencedEntities(entityModel.getType().getSimpleName()));
 
-            }
         }
 
         return idMap;
     }
+
+    /**
+     * Serves what it can from the cache and fetches only the rest, caching those documents as they arrive
+     */
+    private void queryCached(EntityCache cache, Class<?> type, List<Object> collectionIds, Map<Object, Object> idMap) {
+        Mapper mapper = getDatastore().getMapper();
+        Codec<?> codec = mapper.getCodecRegistry().get(type);
+        List<Object> missing = new ArrayList<>();
+        for (Object id : collectionIds) {
+            RawBsonDocument document = cache.get(id);
+            if (document != null) {
+                idMap.put(id, document.decode(codec));
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long stamp = cache.stamp();
+            try (MongoCursor<RawBsonDocument> cursor = mapper.getCollection(type)
+                                                             .withDocumentClass(RawBsonDocument.class)
+                                                             .find(new Document("_id", new Document("$in", missing)))
+                                                             .iterator()) {
+                while (cursor.hasNext()) {
+                    RawBsonDocument document = cursor.next();
+                    Object entity = document.decode(codec);
+                    Object id = mapper.getId(entity);
+                    cache.put(id, document, stamp);
+                    idMap.put(id, entity);
+                }
+            }
+        }
+    }
 }
@@ -7,6 +7,7 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.query.Query;
 import dev.morphia.sofia.Sofia;
@@ -75,7 +76,10 @@ public class SingleReference<T> extends MorphiaReference<T> {
     @Override
     public T get() {
         if (!isResolved() && value == null && id != null) {
-            value = (T) buildQuery().iterator().tryNext();
+            value = fromBatch();
+            if (value == null) {
+                value = (T) buildQuery().first();
+            }
             if (value == null && !ignoreMissing()) {
                 throw new ReferenceException(
                     Sofia.missingReferencedEntity(entityModel.getType().getSimpleName()));
@@ -116,6 +120,16 @@ public class SingleReference<T> extends MorphiaReference<T> {
         return id instanceof DBRef ? ((DBRef) id).getId() : id;
     }
 
+    @Nullable
+    private T fromBatch() {
+        ReferenceBatch batch = ReferenceBatch.current();
+        if (batch == null) {
+            return null;
+        }
+        String collection = id instanceof DBRef ? ((DBRef) id).getCollectionName() : entityModel.getCollectionName();
+        return (T) batch.get(collection, getId());
+    }
+
     Query<?> buildQuery() {
         final Query<?> query;
         if (id instanceof DBRef) {
@@ -49,6 +49,8 @@ import java.util.concurrent.TimeUnit;
 public final class FindOptions implements SessionConfigurable<FindOptions>, ReadConfigurable<FindOptions> {
     private Boolean allowDiskUse;
     private int batchSize;
+    private boolean batchReferences;
+    private boolean lazyLoad;
     private int limit;
     private long maxTimeMS;
     private long maxAwaitTimeMS;
@@ -148,6 +150,21 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this;
     }
 
+    /**
+     * Enables resolving eager {@code @Reference} properties a page at a time.  Rather than issuing a query for every reference on every
+     * entity, the cursor reads a page of documents, collects the referenced IDs per collection, and fetches them with a single
+     * {@code $in} query per collection before decoding the page.  The page size is the {@link #batchSize(int) batch size} if one is
+     * set.
+     *
+     * @param batchReferences true to resolve references in batches
+     * @return this
+     * @since 2.2
+     */
+    public FindOptions batchReferences(boolean batchReferences) {
+        this.batchReferences = batchReferences;
+        return this;
+    }
+
     /**
      * Set the client session to use for the insert.
      *
@@ -209,6 +226,8 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
     public FindOptions copy(FindOptions original) {
         this.allowDiskUse = original.allowDiskUse;
         this.batchSize = original.batchSize;
+        this.batchReferences = original.batchReferences;
+        this.lazyLoad = original.lazyLoad;
         this.limit = original.limit;
         this.maxTimeMS = original.maxTimeMS;
         this.maxAwaitTimeMS = original.maxAwaitTimeMS;
@@ -292,6 +311,15 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this.hint;
     }
 
+    /**
+     * @return the name of the index to hint
+     * @since 2.2
+     */
+    @Nullable
+    public String getHintString() {
+        return this.hintString;
+    }
+
     /**
      * @return the limit
      */
@@ -388,9 +416,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
 
     @Override
     public int hashCode() {
-        return Objects.hash(allowDiskUse, batchSize, limit, maxTimeMS, maxAwaitTimeMS, skip, sort, cursorType, noCursorTimeout, oplogReplay,
-            partial, collation, comment, hint, hintString, max, min, returnKey, showRecordId, readConcern, readPreference, projection,
-            queryLogId, clientSession);
+        return Objects.hash(allowDiskUse, batchSize, batchReferences, lazyLoad, limit, maxTimeMS, maxAwaitTimeMS, skip, sort,
+            cursorType, noCursorTimeout, oplogReplay, partial, collation, comment, hint, hintString, max, min, returnKey, showRecordId,
+            readConcern, readPreference, projection, queryLogId, clientSession);
     }
 
     @Override
@@ -402,10 +430,12 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
             return false;
         }
         FindOptions that = (FindOptions) o;
-        return batchSize == that.batchSize && limit == that.limit && maxTimeMS == that.maxTimeMS && maxAwaitTimeMS == that.maxAwaitTimeMS
-               && skip == that.skip && noCursorTimeout == that.noCursorTimeout && oplogReplay == that.oplogReplay && partial == that.partial
-               && returnKey == that.returnKey && showRecordId == that.showRecordId && Objects.equals(allowDiskUse, that.allowDiskUse)
-               && Objects.equals(sort, that.sort) && cursorType == that.cursorType && Objects.equals(collation, that.collation)
+        return batchSize == that.batchSize && batchReferences == that.batchReferences && lazyLoad == that.lazyLoad && limit == that.limit
+               && maxTimeMS == that.maxTimeMS
+               && maxAwaitTimeMS == that.maxAwaitTimeMS && skip == that.skip && noCursorTimeout == that.noCursorTimeout
+               && oplogReplay == that.oplogReplay && partial == that.partial && returnKey == that.returnKey
+               && showRecordId == that.showRecordId && Objects.equals(allowDiskUse, that.allowDiskUse) && Objects.equals(sort, that.sort)
+               && cursorType == that.cursorType && Objects.equals(collation, that.collation)
                && Objects.equals(comment, that.comment) && Objects.equals(hint, that.hint) && Objects.equals(hintString, that.hintString)
                && Objects.equals(max, that.max) && Objects.equals(min, that.min) && Objects.equals(readConcern, that.readConcern)
                && Objects.equals(readPreference, that.readPreference) && Objects.equals(projection, that.projection)
@@ -417,6 +447,8 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return new StringJoiner(", ", FindOptions.class.getSimpleName() + "[", "]")
                    .add("allowDiskUse=" + allowDiskUse)
                    .add("batchSize=" + batchSize)
+                   .add("batchReferences=" + batchReferences)
+                   .add("lazyLoad=" + lazyLoad)
                    .add("limit=" + limit)
                    .add("maxTimeMS=" + maxTimeMS)
                    .add("maxAwaitTimeMS=" + maxAwaitTimeMS)
@@ -483,6 +515,22 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this;
     }
 
+    /**
+     * @return true if eager references are resolved a page at a time
+     * @since 2.2
+     */
+    public boolean isBatchReferences() {
+        return batchReferences;
+    }
+
+    /**
+     * @return true if the results are loaded lazily
+     * @since 2.2
+     */
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
     /**
      * This is an experimental method.  It's implementation and presence are subject to change.
      *
@@ -528,6 +576,21 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this.showRecordId;
     }
 
+    /**
+     * Loads the results lazily.  Each entity keeps its raw document and decodes a property only when it is first used, which saves work
+     * when only a few properties of each result are read.  Types that can not be loaded lazily are decoded as usual.  This has no effect
+     * when {@link #batchReferences(boolean) batching references}.
+     *
+     * @param lazyLoad true to load the results lazily
+     * @return this
+     * @see dev.morphia.annotations.LazyLoad
+     * @since 2.2
+     */
+    public FindOptions lazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+        return this;
+    }
+
     /**
      * Sets the limit
      *
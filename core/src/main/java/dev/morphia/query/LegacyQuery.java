@@ -11,12 +11,18 @@ import dev.morphia.Datastore;
 import dev.morphia.DatastoreImpl;
 import dev.morphia.DeleteOptions;
 import dev.morphia.annotations.Entity;
+import dev.morphia.internal.EntityCache;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.query.internal.Keyset;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
+import dev.morphia.query.internal.ReferenceBatchingCursor;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +31,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 import static com.mongodb.CursorType.NonTailable;
 import static dev.morphia.query.CriteriaJoin.AND;
@@ -143,14 +151,18 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
     public DeleteResult delete(DeleteOptions options) {
         MongoCollection<T> collection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        if (options.isMulti()) {
-            return session == null
-                   ? collection.deleteMany(getQueryDocument(), options)
-                   : collection.deleteMany(session, getQueryDocument(), options);
-        } else {
-            return session == null
-                   ? collection.deleteOne(getQueryDocument(), options)
-                   : collection.deleteOne(session, getQueryDocument(), options);
+        try {
+            if (options.isMulti()) {
+                return session == null
+                       ? collection.deleteMany(getQueryDocument(), options)
+                       : collection.deleteMany(session, getQueryDocument(), options);
+            } else {
+                return session == null
+                       ? collection.deleteOne(getQueryDocument(), options)
+                       : collection.deleteOne(session, getQueryDocument(), options);
+            }
+        } finally {
+            invalidateCache(session);
         }
     }
 
@@ -172,9 +184,13 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
     public T findAndDelete(FindAndDeleteOptions options) {
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        return session == null
-               ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
-               : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+        try {
+            return session == null
+                   ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
+                   : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+        } finally {
+            invalidateCache(session);
+        }
     }
 
     /**
@@ -250,7 +266,32 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        if (options.isBatchReferences()) {
+            MongoCursor<Document> cursor = prepareCursor(options, getCollection().withDocumentClass(Document.class));
+            return new MorphiaCursor<>(new ReferenceBatchingCursor<>(cursor, datastore, clazz, options.getBatchSize()));
+        }
+        MongoCollection<T> collection = getCollection();
+        return new MorphiaCursor<>(prepareCursor(options, options.isLazyLoad()
+                                                          ? collection.withCodecRegistry(mapper.getLazyCodecRegistry())
+                                                          : collection));
+    }
+
+    @Override
+    public Page<T> page(FindOptions options, int pageSize, @Nullable String token, Sort... sorts) {
+        Keyset keyset = new Keyset(mapper, clazz, pageSize, sorts);
+        FindOptions pageOptions = options.copy()
+                                         .sort(keyset.getSorts())
+                                         .skip(0)
+                                         .limit(pageSize + 1);
+        Codec<T> codec = (options.isLazyLoad() ? mapper.getLazyCodecRegistry() : mapper.getCodecRegistry()).get(clazz);
+        return keyset.read(prepareCursor(pageOptions, getCollection().withDocumentClass(RawBsonDocument.class),
+            keyset.filter(this.toDocument(), token)), codec);
+    }
+
+    @Override
+    public Stream<T> stream(FindOptions options, Executor executor) {
+        return MorphiaQuery.stream(this, datastore, options, executor,
+            o -> prepareCursor(o, getCollection().withDocumentClass(RawBsonDocument.class)));
     }
 
     @Override
@@ -424,9 +465,18 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         return obj;
     }
 
+    private void invalidateCache(@Nullable ClientSession session) {
+        EntityCache cache = mapper.getEntityCache(getEntityClass());
+        if (cache != null) {
+            cache.invalidateAll(session);
+        }
+    }
+
     private <E> MongoCursor<E> prepareCursor(FindOptions options, MongoCollection<E> collection) {
-        final Document query = this.toDocument();
+        return prepareCursor(options, collection, this.toDocument());
+    }
 
+    private <E> MongoCursor<E> prepareCursor(FindOptions options, MongoCollection<E> collection, Bson query) {
         FindOptions findOptions = getOptions().copy().copy(options);
         if (LOG.isTraceEnabled()) {
             LOG.trace(format("Running query(%s) : %s, options: %s,", getCollectionName(), query, findOptions));
@@ -49,8 +49,12 @@ public class Modify<T> extends UpdateBase<T> {
         ClientSession session = getDatastore().findSession(options);
         Document update = toDocument();
 
-        return session == null
-               ? options.prepare(getCollection()).findOneAndUpdate(getQuery().toDocument(), update, options)
-               : options.prepare(getCollection()).findOneAndUpdate(session, getQuery().toDocument(), update, options);
+        try {
+            return session == null
+                   ? options.prepare(getCollection()).findOneAndUpdate(getQuery().toDocument(), update, options)
+                   : options.prepare(getCollection()).findOneAndUpdate(session, getQuery().toDocument(), update, options);
+        } finally {
+            invalidateCache(session);
+        }
     }
 }
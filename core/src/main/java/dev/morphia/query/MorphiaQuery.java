@@ -9,17 +9,29 @@ import com.mongodb.client.result.DeleteResult;
 import com.mongodb.lang.Nullable;
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
+import dev.morphia.internal.EntityCache;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.mapping.codec.writer.RawDocumentWriter;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.filters.Filters;
 import dev.morphia.query.experimental.filters.NearFilter;
 import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.query.internal.DecodingSpliterator;
+import dev.morphia.query.internal.Keyset;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
+import dev.morphia.query.internal.ReferenceBatchingCursor;
 import dev.morphia.sofia.Sofia;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,7 +40,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.StringJoiner;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.mongodb.CursorType.NonTailable;
 import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
@@ -80,6 +99,38 @@ public class MorphiaQuery<T> implements Query<T> {
         throw new UnsupportedOperationException(Sofia.legacyOperation());
     }
 
+    /**
+     * Streams the results of a query, decoding them in the background unless they must be decoded on the consuming thread
+     *
+     * @param query     the query to stream
+     * @param datastore the datastore the query runs on
+     * @param options   the options to apply
+     * @param executor  the executor to decode on
+     * @param cursor    opens a cursor of the raw results with the given options
+     * @param <T>       the entity type
+     * @return the results
+     */
+    static <T> Stream<T> stream(Query<T> query, Datastore datastore, FindOptions options, Executor executor,
+                                Function<FindOptions, MongoCursor<RawBsonDocument>> cursor) {
+        if (options.isBatchReferences() || datastore.findSession(options) != null) {
+            // sessions are not thread safe and reference batching already works a batch at a time so decode as the results are read
+            return streamOf(query.iterator(options));
+        }
+        Mapper mapper = datastore.getMapper();
+        Codec<T> codec = (options.isLazyLoad() ? mapper.getLazyCodecRegistry() : mapper.getCodecRegistry()).get(query.getEntityClass());
+        return DecodingSpliterator.stream(cursor.apply(options), codec, options.getBatchSize(), executor);
+    }
+
+    /**
+     * @param cursor the cursor to stream
+     * @param <T>    the entity type
+     * @return a sequential stream of the cursor which closes it when closed
+     */
+    static <T> Stream<T> streamOf(MorphiaCursor<T> cursor) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                            .onClose(cursor::close);
+    }
+
     @Override
     public long count() {
         return count(new CountOptions());
@@ -88,7 +139,7 @@ public class MorphiaQuery<T> implements Query<T> {
     @Override
     public long count(CountOptions options) {
         ClientSession session = datastore.findSession(options);
-        Document query = getQueryDocument();
+        Bson query = getQueryFilter();
         return session == null ? getCollection().countDocuments(query, options)
                                : getCollection().countDocuments(session, query, options);
     }
@@ -97,14 +148,18 @@ public class MorphiaQuery<T> implements Query<T> {
     public DeleteResult delete(DeleteOptions options) {
         MongoCollection<T> collection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        if (options.isMulti()) {
-            return session == null
-                   ? collection.deleteMany(getQueryDocument(), options)
-                   : collection.deleteMany(session, getQueryDocument(), options);
-        } else {
-            return session == null
-                   ? collection.deleteOne(getQueryDocument(), options)
-                   : collection.deleteOne(session, getQueryDocument(), options);
+        try {
+            if (options.isMulti()) {
+                return session == null
+                       ? collection.deleteMany(getQueryFilter(), options)
+                       : collection.deleteMany(session, getQueryFilter(), options);
+            } else {
+                return session == null
+                       ? collection.deleteOne(getQueryFilter(), options)
+                       : collection.deleteOne(session, getQueryFilter(), options);
+            }
+        } finally {
+            invalidateCache(session);
         }
     }
 
@@ -161,9 +216,13 @@ public class MorphiaQuery<T> implements Query<T> {
     public T findAndDelete(FindAndDeleteOptions options) {
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        return session == null
-               ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
-               : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+        try {
+            return session == null
+                   ? mongoCollection.findOneAndDelete(getQueryFilter(), options)
+                   : mongoCollection.findOneAndDelete(session, getQueryFilter(), options);
+        } finally {
+            invalidateCache(session);
+        }
     }
 
     @Override
@@ -173,6 +232,11 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public T first(FindOptions options) {
+        EntityCache cache = mapper.getEntityCache(type);
+        Object id = cache != null ? getIdValue() : null;
+        if (id != null && isCacheable(options)) {
+            return findCached(cache, id, options);
+        }
         try (MongoCursor<T> it = iterator(options.copy().limit(1))) {
             return it.tryNext();
         }
@@ -190,7 +254,31 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        if (options.isBatchReferences()) {
+            MongoCursor<Document> cursor = prepareCursor(options, getCollection().withDocumentClass(Document.class));
+            return new MorphiaCursor<>(new ReferenceBatchingCursor<>(cursor, datastore, type, options.getBatchSize()));
+        }
+        MongoCollection<T> collection = getCollection();
+        return new MorphiaCursor<>(prepareCursor(options, options.isLazyLoad()
+                                                          ? collection.withCodecRegistry(mapper.getLazyCodecRegistry())
+                                                          : collection));
+    }
+
+    @Override
+    public Page<T> page(FindOptions options, int pageSize, @Nullable String token, Sort... sorts) {
+        Keyset keyset = new Keyset(mapper, type, pageSize, sorts);
+        FindOptions pageOptions = options.copy()
+                                         .sort(keyset.getSorts())
+                                         .skip(0)
+                                         .limit(pageSize + 1);
+        Codec<T> codec = (options.isLazyLoad() ? mapper.getLazyCodecRegistry() : mapper.getCodecRegistry()).get(type);
+        return keyset.read(prepareCursor(pageOptions, getCollection().withDocumentClass(RawBsonDocument.class),
+            keyset.filter(getQueryFilter(), token)), codec);
+    }
+
+    @Override
+    public Stream<T> stream(FindOptions options, Executor executor) {
+        return stream(this, datastore, options, executor, o -> prepareCursor(o, getCollection().withDocumentClass(RawBsonDocument.class)));
     }
 
     @Override
@@ -279,10 +367,12 @@ public class MorphiaQuery<T> implements Query<T> {
         return collectionName;
     }
 
-    @SuppressWarnings("ConstantConditions")
     private <E> MongoCursor<E> prepareCursor(FindOptions findOptions, MongoCollection<E> collection) {
-        final Document query = toDocument();
+        return prepareCursor(findOptions, collection, getQueryFilter());
+    }
 
+    @SuppressWarnings("ConstantConditions")
+    private <E> MongoCursor<E> prepareCursor(FindOptions findOptions, MongoCollection<E> collection, Bson query) {
         if (LOG.isTraceEnabled()) {
             LOG.trace(format("Running query(%s) : %s, options: %s,", getCollectionName(), query, findOptions));
         }
@@ -318,6 +408,25 @@ public class MorphiaQuery<T> implements Query<T> {
         }
     }
 
+    /**
+     * Evicts the entities this query matches from the cache.  Only an id lookup can be evicted precisely so any other query evicts the
+     * whole collection.
+     *
+     * @param session the session the write was made in, if any
+     * @morphia.internal
+     */
+    void invalidateCache(@Nullable ClientSession session) {
+        EntityCache cache = mapper.getEntityCache(type);
+        if (cache != null) {
+            Object id = getIdValue();
+            if (id != null) {
+                cache.invalidate(id, session);
+            } else {
+                cache.invalidateAll(session);
+            }
+        }
+    }
+
     Document getQueryDocument() {
         DocumentWriter writer = new DocumentWriter(seedQuery);
         document(writer, () -> {
@@ -335,6 +444,117 @@ public class MorphiaQuery<T> implements Query<T> {
         return query;
     }
 
+    /**
+     * Encodes the filters straight to BSON for the operations that only hand the query to the driver.  Filters repeating a field are
+     * merged by {@link #getQueryDocument()} so those queries, and those seeded with a document, are still built as a Document.
+     */
+    private Bson getQueryFilter() {
+        if (seedQuery == null) {
+            RawDocumentWriter writer = new RawDocumentWriter();
+            document(writer, () -> {
+                EncoderContext context = EncoderContext.builder().build();
+                for (Filter filter : filters) {
+                    filter.encode(mapper, writer, context);
+                }
+                if (mapper.isMappable(getEntityClass())) {
+                    writeDiscriminators(writer, mapper.getEntityModel(getEntityClass()));
+                }
+            });
+            if (!writer.hasDuplicateNames()) {
+                return writer.getDocument();
+            }
+        }
+        return getQueryDocument();
+    }
+
+    /**
+     * Looks an entity up by id through the cache.  The cache is shared by every type mapped to the collection so a document, however it
+     * was found, is only returned if it decodes to this query's type.
+     */
+    @Nullable
+    private T findCached(EntityCache cache, Object id, FindOptions options) {
+        RawBsonDocument document = cache.get(id);
+        if (document == null) {
+            long stamp = cache.stamp();
+            document = getCollection().withDocumentClass(RawBsonDocument.class)
+                                      .find(new Document("_id", id))
+                                      .first();
+            if (document == null) {
+                return null;
+            }
+            cache.put(id, document, stamp);
+        }
+        if (!isOfType(document)) {
+            return null;
+        }
+        return document.decode((options.isLazyLoad() ? mapper.getLazyCodecRegistry() : mapper.getCodecRegistry()).get(type));
+    }
+
+    private boolean isOfType(RawBsonDocument document) {
+        EntityModel model = mapper.getEntityModel(type);
+        BsonValue discriminator = document.get(model.getDiscriminatorKey());
+        if (discriminator == null || !discriminator.isString()) {
+            // decoded as the query type just as an uncached read would be
+            return discriminator == null;
+        }
+        try {
+            return type.isAssignableFrom(mapper.getDiscriminatorLookup().lookup(discriminator.asString().getValue()));
+        } catch (CodecConfigurationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the id matched if this query is nothing more than an equality check on the id of the type's own collection
+     */
+    @Nullable
+    private Object getIdValue() {
+        if (seedQuery != null || filters.size() != 1 || !mapper.isMappable(type)) {
+            return null;
+        }
+        Filter filter = filters.get(0);
+        Object value = filter.getValue();
+        EntityModel model = mapper.getEntityModel(type);
+        PropertyModel idProperty = model.getIdProperty();
+        if (value == null || filter.isNot() || !"$eq".equals(filter.getName()) || idProperty == null
+            || !Objects.equals(collectionName, model.getCollectionName())) {
+            return null;
+        }
+        String field = filter.getField();
+        boolean byId = "_id".equals(field) || idProperty.getName().equals(field);
+        // ids are only matched to cached entries by equals() so the value must be of the id's own type.  property types are already
+        // boxed so a primitive id compares with its wrapper.
+        return byId && idProperty.getType().equals(value.getClass()) ? value : null;
+    }
+
+    /**
+     * Only options which leave a single document lookup unchanged can be served from the cache.  Reads in a session bypass it so they see
+     * the session's own writes, as do reads asking for a particular server, consistency, collation or time limit since the cache can not
+     * honor those.  Lazy loading is cacheable: cached documents are decoded with the lazy codecs just as an uncached read would be.
+     */
+    private boolean isCacheable(FindOptions options) {
+        return options.getProjection() == null
+               && options.getSkip() == 0
+               && !options.isLogQuery()
+               && options.getReadPreference() == null
+               && options.getReadConcern() == null
+               && options.getCollation() == null
+               && options.getMaxTime(TimeUnit.MILLISECONDS) == 0
+               && datastore.findSession(options) == null;
+    }
+
+    private void writeDiscriminators(RawDocumentWriter writer, EntityModel model) {
+        String key = model.getDiscriminatorKey();
+        List<String> values = mapper.getQueryDiscriminators(model);
+        if (values != null && !writer.containsName("_id") && !writer.containsName(key)) {
+            document(writer, key, () -> {
+                writer.writeStartArray("$in");
+                values.forEach(writer::writeString);
+                writer.writeEndArray();
+            });
+        }
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Deprecated(since = "2.0", forRemoval = true)
     private class MorphiaQueryFieldEnd extends FieldEndImpl {
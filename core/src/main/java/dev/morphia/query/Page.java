@@ -0,0 +1,53 @@
+package dev.morphia.query;
+
+import com.mongodb.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * A page of results fetched with keyset pagination.
+ *
+ * @param <T> the entity type
+ * @see Query#page(FindOptions, int, String, Sort...)
+ * @since 2.2
+ */
+public class Page<T> {
+    private final List<T> entities;
+    private final String nextToken;
+
+    /**
+     * Creates a page
+     *
+     * @param entities  the entities on this page
+     * @param nextToken the token for the next page, if any
+     * @morphia.internal
+     */
+    public Page(List<T> entities, @Nullable String nextToken) {
+        this.entities = entities;
+        this.nextToken = nextToken;
+    }
+
+    /**
+     * @return the entities on this page
+     */
+    public List<T> getEntities() {
+        return entities;
+    }
+
+    /**
+     * Returns the opaque token to pass to {@link Query#page(FindOptions, int, String, Sort...)} to fetch the page after this one.
+     *
+     * @return the token or null if this is the last page
+     */
+    @Nullable
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    /**
+     * @return true if there is a page after this one
+     */
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+}
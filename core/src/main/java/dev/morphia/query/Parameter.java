@@ -0,0 +1,62 @@
+package dev.morphia.query;
+
+import java.util.Objects;
+
+/**
+ * A named placeholder for a filter value in a {@link PreparedQuery}.  The value is supplied each time the query is bound.
+ *
+ * @see dev.morphia.Datastore#prepare(Class, dev.morphia.query.experimental.filters.Filter...)
+ * @since 2.2
+ */
+public final class Parameter {
+    /**
+     * The key used to mark a parameter's position in a compiled query
+     *
+     * @morphia.internal
+     */
+    public static final String KEY = "$morphia.parameter";
+
+    private final String name;
+
+    private Parameter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates a named parameter
+     *
+     * @param name the name to bind values to
+     * @return the new parameter
+     */
+    public static Parameter parameter(String name) {
+        return new Parameter(Objects.requireNonNull(name));
+    }
+
+    /**
+     * @return the parameter name
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Parameter)) {
+            return false;
+        }
+        return name.equals(((Parameter) o).name);
+    }
+
+    @Override
+    public String toString() {
+        return ":" + name;
+    }
+}
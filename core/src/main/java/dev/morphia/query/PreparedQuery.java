@@ -0,0 +1,127 @@
+package dev.morphia.query;
+
+import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
+import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.query.experimental.filters.Filter;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * A query compiled once and then executed many times with different values.  Filters are given {@link Parameter} placeholders in place of
+ * values.  Preparing the query resolves the field paths, encodes the fixed values, and applies any discriminator clause once.  Binding only
+ * copies the compiled query and fills in the parameter values.
+ * <p>
+ * Instances are immutable and may be shared between threads.
+ *
+ * <pre>
+ * PreparedQuery&lt;User&gt; byName = datastore.prepare(User.class, eq("name", parameter("name")), gt("age", parameter("age")));
+ * User user = byName.bind(Map.of("name", "Bob", "age", 21)).first();
+ * </pre>
+ *
+ * @param <T> the entity type
+ * @since 2.2
+ */
+public class PreparedQuery<T> {
+    private final Datastore datastore;
+    private final Class<T> type;
+    private final Document compiled;
+    private final Map<String, PropertyHandler> handlers = new HashMap<>();
+
+    /**
+     * Creates a prepared query
+     *
+     * @param datastore the datastore to use
+     * @param type      the entity type
+     * @param filters   the filters to apply
+     * @morphia.internal
+     * @see Datastore#prepare(Class, Filter...)
+     */
+    public PreparedQuery(Datastore datastore, Class<T> type, Filter... filters) {
+        this.datastore = datastore;
+        this.type = type;
+        compiled = datastore.find(type)
+                            .filter(filters)
+                            .toDocument();
+
+        Mapper mapper = datastore.getMapper();
+        for (Filter filter : filters) {
+            if (filter.getValue() instanceof Parameter && filter.getField() != null) {
+                PropertyModel property = new PathTarget(mapper, type, filter.getField(), false).getTarget();
+                Codec<?> codec = property != null ? property.getCachedCodec() : null;
+                if (codec instanceof PropertyHandler) {
+                    handlers.put(((Parameter) filter.getValue()).getName(), (PropertyHandler) codec);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a query with the given values bound to the parameters
+     *
+     * @param values the parameter values keyed by parameter name
+     * @return the query
+     * @throws QueryException if any parameter does not have a value
+     */
+    public Query<T> bind(Map<String, ?> values) {
+        return datastore.getQueryFactory().createQuery(datastore, type, (Document) bind(compiled, values));
+    }
+
+    /**
+     * @return the compiled form of the query with parameter placeholders in place of values
+     * @morphia.internal
+     */
+    public Document toDocument() {
+        return compiled;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PreparedQuery{type=%s, query=%s}", type.getSimpleName(), compiled);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private Object bind(@Nullable Object value, Map<String, ?> values) {
+        if (value instanceof Document) {
+            Document document = (Document) value;
+            Object name = document.get(Parameter.KEY);
+            if (name != null && document.size() == 1) {
+                return valueOf((String) name, values);
+            }
+            Document bound = new Document();
+            for (Entry<String, Object> entry : document.entrySet()) {
+                bound.put(entry.getKey(), bind(entry.getValue(), values));
+            }
+            return bound;
+        } else if (value instanceof List) {
+            List<Object> list = (List<Object>) value;
+            List<Object> bound = new ArrayList<>(list.size());
+            for (Object element : list) {
+                bound.add(bind(element, values));
+            }
+            return bound;
+        }
+        return value;
+    }
+
+    @Nullable
+    private Object valueOf(String name, Map<String, ?> values) {
+        if (!values.containsKey(name)) {
+            throw new QueryException(Sofia.missingParameter(name));
+        }
+        Object value = values.get(name);
+        PropertyHandler handler = handlers.get(name);
+        return handler != null && value != null ? handler.encode(value) : value;
+    }
+}
@@ -6,14 +6,18 @@ import com.mongodb.lang.Nullable;
 import dev.morphia.DeleteOptions;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.query.internal.DecodingSpliterator;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
 import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 import static dev.morphia.query.MorphiaQuery.legacyOperation;
+import static dev.morphia.query.MorphiaQuery.streamOf;
 
 
 /**
@@ -292,6 +296,87 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
      */
     MorphiaCursor<T> iterator(FindOptions options);
 
+    /**
+     * Fetches a page of results with keyset pagination.
+     *
+     * @param pageSize the number of entities per page
+     * @param token    the {@link Page#getNextToken() token} of the previous page or null for the first page
+     * @param sorts    the sorts to page through the results by
+     * @return the page
+     * @see #page(FindOptions, int, String, Sort...)
+     * @since 2.2
+     */
+    default Page<T> page(int pageSize, @Nullable String token, Sort... sorts) {
+        return page(new FindOptions(), pageSize, token, sorts);
+    }
+
+    /**
+     * Fetches a page of results with keyset pagination.  Rather than skipping the results of the earlier pages, the query is restricted
+     * to the results sorting after the last entity of the previous page so each page costs the same however deep it is.  The sort keys
+     * of that entity are carried in the opaque {@link Page#getNextToken() token} of each page.  The id is added as a final sort, unless
+     * already present, to break ties.
+     * <p>
+     * Each sort key should have a single, non array value and the values of a key should share a type.  Values of other types are
+     * skipped by the range comparisons since the server compares values of the same type only.  Missing and null values are supported.
+     * The sort, skip and limit of the options are replaced and any projection must include the sort keys.
+     *
+     * @param options  the options to apply to the find operation
+     * @param pageSize the number of entities per page
+     * @param token    the {@link Page#getNextToken() token} of the previous page or null for the first page
+     * @param sorts    the sorts to page through the results by
+     * @return the page
+     * @throws IllegalArgumentException      if the token is malformed or was issued for a different sort
+     * @throws UnsupportedOperationException if this query implementation does not support keyset pagination
+     * @since 2.2
+     */
+    default Page<T> page(FindOptions options, int pageSize, @Nullable String token, Sort... sorts) {
+        throw new UnsupportedOperationException(Sofia.queryOperationUnsupported("page"));
+    }
+
+    /**
+     * Execute the query and stream the results.  The stream holds a server cursor until it is read to the end so it should be closed
+     * if it might not be.
+     *
+     * @return the results
+     * @see #stream(FindOptions, Executor)
+     * @since 2.2
+     */
+    default Stream<T> stream() {
+        return stream(new FindOptions());
+    }
+
+    /**
+     * Execute the query and stream the results, decoding them on a shared pool of daemon threads reserved for streams so decoding does
+     * not compete with other work on the common fork join pool.  The stream holds a server cursor until it is read to the end so it
+     * should be closed if it might not be.
+     *
+     * @param options the options to apply to the find operation
+     * @return the results
+     * @see #stream(FindOptions, Executor)
+     * @since 2.2
+     */
+    default Stream<T> stream(FindOptions options) {
+        return stream(options, DecodingSpliterator.defaultExecutor());
+    }
+
+    /**
+     * Execute the query and stream the results.  Documents are read from the server in the background and decoded in batches on the
+     * executor while keeping the order of the query.  The {@link FindOptions#batchSize(int) batch size} sets the number of documents
+     * per batch.  The stream can be made {@link Stream#parallel() parallel} in which case it is split a batch at a time.
+     * <p>
+     * When {@link FindOptions#batchReferences(boolean) batching references} or using a session, results are read and decoded on the
+     * thread consuming the stream instead.  The stream holds a server cursor until it is read to the end so it should be closed if it
+     * might not be.
+     *
+     * @param options  the options to apply to the find operation
+     * @param executor the executor to decode on.  Implementations which can not decode in the background ignore it.
+     * @return the results
+     * @since 2.2
+     */
+    default Stream<T> stream(FindOptions options, Executor executor) {
+        return streamOf(iterator(options));
+    }
+
     /**
      * Execute the query and get the results (as a {@code MorphiaCursor<Key<T>>})
      *
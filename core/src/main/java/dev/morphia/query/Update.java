@@ -47,13 +47,17 @@ public class Update<T> extends UpdateBase<T> {
 
         ClientSession session = getDatastore().findSession(options);
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
-        if (options.isMulti()) {
-            return session == null ? mongoCollection.updateMany(queryObject, updateOperations, options)
-                                   : mongoCollection.updateMany(session, queryObject, updateOperations, options);
+        try {
+            if (options.isMulti()) {
+                return session == null ? mongoCollection.updateMany(queryObject, updateOperations, options)
+                                       : mongoCollection.updateMany(session, queryObject, updateOperations, options);
 
-        } else {
-            return session == null ? mongoCollection.updateOne(queryObject, updateOperations, options)
-                                   : mongoCollection.updateOne(session, queryObject, updateOperations, options);
+            } else {
+                return session == null ? mongoCollection.updateOne(queryObject, updateOperations, options)
+                                       : mongoCollection.updateOne(session, queryObject, updateOperations, options);
+            }
+        } finally {
+            invalidateCache(session);
         }
     }
 }
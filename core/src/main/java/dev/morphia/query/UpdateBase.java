@@ -1,8 +1,10 @@
 package dev.morphia.query;
 
+import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.lang.Nullable;
 import dev.morphia.Datastore;
+import dev.morphia.internal.EntityCache;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.experimental.updates.UpdateOperator;
@@ -98,6 +100,23 @@ public abstract class UpdateBase<T> {
         return query;
     }
 
+    /**
+     * Evicts whatever this update may have changed from the entity cache
+     *
+     * @param session the session the update was made in, if any
+     * @morphia.internal
+     */
+    protected void invalidateCache(@Nullable ClientSession session) {
+        if (query instanceof MorphiaQuery) {
+            ((MorphiaQuery<T>) query).invalidateCache(session);
+        } else {
+            EntityCache cache = mapper.getEntityCache(type);
+            if (cache != null) {
+                cache.invalidateAll(session);
+            }
+        }
+    }
+
     /**
      * @return the updates
      * @morphia.internal
@@ -0,0 +1,284 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.Nullable;
+import dev.morphia.sofia.Sofia;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+
+import java.lang.ref.Cleaner;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams the results of a query while decoding them in parallel.  A background task reads raw documents from the cursor, so waiting on
+ * the server overlaps with decoding, and groups them in to batches.  Each batch is decoded as a separate task on an executor.  Batches
+ * are handed out in the order they were read so the results keep the order of the query.
+ * <p>
+ * Splitting hands off the next decoded batch so parallel streams work a batch at a time.  Only a bounded number of batches are read
+ * ahead of the consumer.  The cursor is closed when the results are exhausted or the stream is closed.  Streams which are abandoned
+ * without being closed, e.g. after {@link Stream#findFirst()}, stop reading once they are garbage collected or once the consumer has not
+ * taken a batch for as long as the server would keep an idle cursor open.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @see dev.morphia.query.Query#stream(dev.morphia.query.FindOptions, Executor)
+ * @since 2.2
+ */
+public class DecodingSpliterator<T> implements Spliterator<T> {
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    /**
+     * Matches the server's default cursor timeout.  A consumer idle for longer would lose the cursor anyway.
+     */
+    private static final long ABANDON_TIMEOUT_MINUTES = 10;
+    private static final CompletableFuture<List<?>> END = CompletableFuture.completedFuture(List.of());
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final Executor READERS = Executors.newCachedThreadPool(daemonThreads("morphia-stream-reader-"));
+    private static final Executor DECODERS = createDecoders();
+
+    private final Reader<T> reader;
+    private boolean exhausted;
+    private Iterator<T> current = Spliterators.emptyIterator();
+
+    /**
+     * Creates the spliterator.  Nothing is read until the first element is requested.
+     *
+     * @param cursor    the cursor to read from
+     * @param codec     the codec to decode with
+     * @param batchSize the number of documents to decode per task.  Values less than 1 use the default.
+     * @param executor  the executor to decode on
+     */
+    public DecodingSpliterator(MongoCursor<RawBsonDocument> cursor, Codec<T> codec, int batchSize, Executor executor) {
+        reader = new Reader<>(cursor, codec, batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE, executor);
+        // the reader must not refer back to this spliterator or it would never become unreachable
+        CLEANER.register(this, reader::close);
+    }
+
+    /**
+     * Creates a stream over a cursor
+     *
+     * @param cursor    the cursor to read from
+     * @param codec     the codec to decode with
+     * @param batchSize the number of documents to decode per task.  Values less than 1 use the default.
+     * @param executor  the executor to decode on
+     * @param <T>       the entity type
+     * @return the stream which closes the cursor when closed
+     */
+    public static <T> Stream<T> stream(MongoCursor<RawBsonDocument> cursor, Codec<T> codec, int batchSize, Executor executor) {
+        DecodingSpliterator<T> spliterator = new DecodingSpliterator<>(cursor, codec, batchSize, executor);
+        return StreamSupport.stream(spliterator, false)
+                            .onClose(spliterator::close);
+    }
+
+    /**
+     * @return the executor streams decode on when none is given.  Its threads are daemons and exit once idle.
+     */
+    public static Executor defaultExecutor() {
+        return DECODERS;
+    }
+
+    /**
+     * Stops reading and closes the cursor
+     */
+    public void close() {
+        reader.close();
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    @Override
+    public long estimateSize() {
+        return exhausted && !current.hasNext() ? 0 : Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (!current.hasNext()) {
+            List<T> batch = nextBatch();
+            if (batch == null) {
+                return false;
+            }
+            current = batch.iterator();
+        }
+        action.accept(current.next());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        current.forEachRemaining(action);
+        List<T> batch;
+        while ((batch = nextBatch()) != null) {
+            batch.forEach(action);
+        }
+    }
+
+    @Override
+    @Nullable
+    public Spliterator<T> trySplit() {
+        if (current.hasNext()) {
+            List<T> rest = new ArrayList<>();
+            current.forEachRemaining(rest::add);
+            return rest.spliterator();
+        }
+        List<T> batch = nextBatch();
+        return batch != null ? batch.spliterator() : null;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private List<T> nextBatch() {
+        if (exhausted || reader.closed) {
+            return null;
+        }
+        reader.start();
+        try {
+            CompletableFuture<? extends List<?>> batch = reader.batches.take();
+            if (batch == END) {
+                exhausted = true;
+                return null;
+            }
+            return (List<T>) batch.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new IllegalStateException(e);
+        } catch (CompletionException e) {
+            close();
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private static Executor createDecoders() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            daemonThreads("morphia-stream-decoder-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Reads batches of raw documents and queues a decode task for each.  This runs in the background until the cursor is exhausted,
+     * the stream is closed or the consumer abandons it.
+     */
+    private static final class Reader<T> {
+        private final MongoCursor<RawBsonDocument> cursor;
+        private final Codec<T> codec;
+        private final int batchSize;
+        private final Executor executor;
+        private final BlockingQueue<CompletableFuture<? extends List<?>>> batches;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile boolean stopped;
+
+        private Reader(MongoCursor<RawBsonDocument> cursor, Codec<T> codec, int batchSize, Executor executor) {
+            this.cursor = cursor;
+            this.codec = codec;
+            this.batchSize = batchSize;
+            this.executor = executor;
+            batches = new ArrayBlockingQueue<>(Math.max(2, 2 * Runtime.getRuntime().availableProcessors()));
+        }
+
+        private void start() {
+            if (started.compareAndSet(false, true)) {
+                READERS.execute(this::read);
+            }
+        }
+
+        private void close() {
+            closed = true;
+            // make room in case the reader is waiting to add a batch
+            batches.clear();
+            if (started.compareAndSet(false, true)) {
+                cursor.close();
+            }
+        }
+
+        private void read() {
+            try {
+                while (!closed && !stopped && cursor.hasNext()) {
+                    List<RawBsonDocument> documents = new ArrayList<>(batchSize);
+                    while (documents.size() < batchSize && cursor.hasNext()) {
+                        documents.add(cursor.next());
+                    }
+                    offer(CompletableFuture.supplyAsync(() -> decode(documents), executor));
+                }
+            } catch (RuntimeException e) {
+                offer(CompletableFuture.failedFuture(e));
+            } finally {
+                cursor.close();
+                offer(END);
+            }
+        }
+
+        private List<T> decode(List<RawBsonDocument> documents) {
+            List<T> entities = new ArrayList<>(documents.size());
+            for (RawBsonDocument document : documents) {
+                entities.add(document.decode(codec));
+            }
+            return entities;
+        }
+
+        private void offer(CompletableFuture<? extends List<?>> batch) {
+            if (stopped) {
+                return;
+            }
+            long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(ABANDON_TIMEOUT_MINUTES);
+            try {
+                // wait for the consumer to catch up but give up once it closes or abandons the stream
+                while (!closed) {
+                    if (batches.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                    if (System.nanoTime() - deadline > 0) {
+                        stop(new IllegalStateException(Sofia.streamAbandoned(ABANDON_TIMEOUT_MINUTES)));
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stop(new IllegalStateException(e));
+            }
+        }
+
+        /**
+         * Stops reading and replaces the unread batches with a failure so a consumer coming back to the stream, or waiting on it, learns
+         * it is incomplete.  The queue has just been cleared so the failure is added without blocking.
+         */
+        private void stop(RuntimeException failure) {
+            stopped = true;
+            batches.clear();
+            batches.offer(CompletableFuture.failedFuture(failure));
+        }
+    }
+}
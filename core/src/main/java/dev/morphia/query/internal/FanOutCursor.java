@@ -0,0 +1,324 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Query;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs several queries concurrently and merges their results.  When the options give a sort, the cursors are merged in that order with a
+ * k-way merge so each query only needs to be sorted on its own.  A limit is pushed down to every query as {@code limit + skip} and the
+ * skip and limit are then applied to the merged results.  Without a sort, the results of each query are returned in turn.
+ * <p>
+ * Sorted values are compared the way the server compares them: by BSON type first, then strings by code point, numbers by value and
+ * other scalars by their natural ordering.  Sorts the merge can not reproduce are rejected rather than merged in a different order than
+ * each query was sorted in: collations, {@code $meta} sorts and sorts on arrays or embedded documents.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @see dev.morphia.Datastore#findAll(List, FindOptions)
+ * @since 2.2
+ */
+public class FanOutCursor<T> implements MongoCursor<T> {
+    private static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+    private final List<MongoCursor<T>> cursors;
+    private final Queue<Head<T>> heads;
+    private final int limit;
+    private int returned;
+
+    /**
+     * Creates the cursor and starts every query on the executor.  This waits for each query's first batch.
+     *
+     * @param mapper   the mapper to use
+     * @param queries  the queries to run
+     * @param options  the options to apply to the merged results
+     * @param executor the executor to run the queries on
+     */
+    public FanOutCursor(Mapper mapper, List<Query<T>> queries, FindOptions options, Executor executor) {
+        Comparator<T> comparator = comparator(mapper, options);
+        FindOptions pushed = options.copy().skip(0);
+        if (options.getLimit() > 0) {
+            pushed.limit(options.getLimit() + options.getSkip());
+        }
+        cursors = open(queries, pushed, executor);
+
+        heads = comparator != null
+                ? new PriorityQueue<>(Math.max(1, cursors.size()), (l, r) -> comparator.compare(l.value, r.value))
+                : new ArrayDeque<>();
+        limit = options.getLimit();
+        try {
+            for (MongoCursor<T> cursor : cursors) {
+                if (cursor.hasNext()) {
+                    heads.add(new Head<>(cursor, cursor.next()));
+                }
+            }
+            for (int i = 0; i < options.getSkip() && hasNext(); i++) {
+                advance();
+            }
+        } catch (RuntimeException e) {
+            // the comparator rejects values it can not order so the opened cursors would otherwise leak
+            close();
+            throw e;
+        }
+        returned = 0;
+    }
+
+    /**
+     * Returns the executor used when none is given.  On a runtime with virtual threads this starts a virtual thread per query.
+     * Otherwise it is a shared pool of daemon threads.
+     *
+     * @return the default executor
+     */
+    public static Executor defaultExecutor() {
+        return DEFAULT_EXECUTOR;
+    }
+
+    @Override
+    public void close() {
+        heads.clear();
+        for (MongoCursor<T> cursor : cursors) {
+            cursor.close();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heads.isEmpty() && (limit <= 0 || returned < limit);
+    }
+
+    @Override
+    @NonNull
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        returned++;
+        return advance();
+    }
+
+    @Override
+    @Nullable
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    @Nullable
+    public ServerCursor getServerCursor() {
+        Head<T> head = heads.peek();
+        return head != null ? head.cursor.getServerCursor() : null;
+    }
+
+    @Override
+    @NonNull
+    public ServerAddress getServerAddress() {
+        Head<T> head = heads.peek();
+        return head != null ? head.cursor.getServerAddress() : cursors.get(0).getServerAddress();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private T advance() {
+        Head<T> head = heads.poll();
+        T value = head.value;
+        if (head.cursor.hasNext()) {
+            head.value = head.cursor.next();
+            if (heads instanceof PriorityQueue) {
+                heads.add(head);
+            } else {
+                // unsorted: keep draining this cursor before moving to the next
+                ((ArrayDeque<Head<T>>) heads).addFirst(head);
+            }
+        }
+        return value;
+    }
+
+    private static <T> List<MongoCursor<T>> open(List<Query<T>> queries, FindOptions options, Executor executor) {
+        List<CompletableFuture<MongoCursor<T>>> futures = new ArrayList<>(queries.size());
+        for (Query<T> query : queries) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                MongoCursor<T> cursor = query.iterator(options.copy());
+                // fetch the first batch while still on the executor
+                cursor.hasNext();
+                return cursor;
+            }, executor));
+        }
+
+        List<MongoCursor<T>> cursors = new ArrayList<>(futures.size());
+        RuntimeException failure = null;
+        for (CompletableFuture<MongoCursor<T>> future : futures) {
+            try {
+                cursors.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+            }
+        }
+        if (failure != null) {
+            cursors.forEach(MongoCursor::close);
+            throw failure;
+        }
+        return cursors;
+    }
+
+    @Nullable
+    private static <T> Comparator<T> comparator(Mapper mapper, FindOptions options) {
+        Document sort = options.getSort();
+        if (sort == null || sort.isEmpty()) {
+            return null;
+        }
+        if (options.getCollation() != null) {
+            throw new IllegalArgumentException(Sofia.fanOutSortUnsupported("a collation"));
+        }
+        Comparator<T> comparator = null;
+        for (Entry<String, Object> entry : sort.entrySet()) {
+            if (!(entry.getValue() instanceof Number)) {
+                // $meta sorts have no value on the entity to compare
+                throw new IllegalArgumentException(Sofia.fanOutSortUnsupported(entry.getKey() + ": " + entry.getValue()));
+            }
+            String[] path = entry.getKey().split("\\.");
+            Comparator<T> field = (l, r) -> compare(valueOf(mapper, l, path), valueOf(mapper, r, path));
+            if (((Number) entry.getValue()).intValue() < 0) {
+                field = field.reversed();
+            }
+            comparator = comparator == null ? field : comparator.thenComparing(field);
+        }
+        return comparator;
+    }
+
+    @Nullable
+    private static Object valueOf(Mapper mapper, Object entity, String[] path) {
+        Object value = entity;
+        for (String segment : path) {
+            if (value == null || !mapper.isMappable(value.getClass())) {
+                return null;
+            }
+            EntityModel model = mapper.getEntityModel(value.getClass());
+            PropertyModel property = model.getProperty(segment);
+            value = property != null ? property.getValue(value) : null;
+        }
+        if (value != null && typeOrder(value) < 0) {
+            // the server sorts arrays by their extreme element and documents field by field
+            throw new IllegalArgumentException(Sofia.fanOutSortUnsupported(String.join(".", path) + " of type " + value.getClass()));
+        }
+        return value;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(@Nullable Object left, @Nullable Object right) {
+        int order = Integer.compare(typeOrder(left), typeOrder(right));
+        if (order != 0 || left == null) {
+            return order;
+        }
+        if (left instanceof Number) {
+            if (left.getClass() != right.getClass()) {
+                return Double.compare(((Number) left).doubleValue(), ((Number) right).doubleValue());
+            }
+        } else if (left instanceof CharSequence || left instanceof Character || left instanceof Enum) {
+            return compareCodePoints(stringOf(left), stringOf(right));
+        } else if (left instanceof Date && right instanceof Date) {
+            return Long.compare(((Date) left).getTime(), ((Date) right).getTime());
+        }
+        if (left instanceof Comparable && left.getClass().isInstance(right)) {
+            return ((Comparable) left).compareTo(right);
+        }
+        throw new IllegalArgumentException(Sofia.fanOutSortUnsupported(left.getClass() + " and " + right.getClass()));
+    }
+
+    /**
+     * Orders values by their BSON type the way the server does, or returns -1 for values whose order the merge can not reproduce
+     */
+    private static int typeOrder(@Nullable Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof Number) {
+            return 1;
+        } else if (value instanceof CharSequence || value instanceof Character || value instanceof Enum) {
+            return 2;
+        } else if (value instanceof ObjectId) {
+            return 3;
+        } else if (value instanceof Boolean) {
+            return 4;
+        } else if (value instanceof Date || value instanceof Temporal) {
+            return 5;
+        }
+        return -1;
+    }
+
+    private static String stringOf(Object value) {
+        return value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
+    }
+
+    /**
+     * Compares strings by code point, which matches the server's binary comparison of UTF-8 unlike {@link String#compareTo(String)}
+     */
+    private static int compareCodePoints(String left, String right) {
+        int l = 0;
+        int r = 0;
+        while (l < left.length() && r < right.length()) {
+            int leftPoint = left.codePointAt(l);
+            int rightPoint = right.codePointAt(r);
+            if (leftPoint != rightPoint) {
+                return Integer.compare(leftPoint, rightPoint);
+            }
+            l += Character.charCount(leftPoint);
+            r += Character.charCount(rightPoint);
+        }
+        return Integer.compare(left.length() - l, right.length() - r);
+    }
+
+    private static Executor createDefaultExecutor() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger count = new AtomicInteger();
+            ThreadFactory factory = runnable -> {
+                Thread thread = new Thread(runnable, "morphia-fan-out-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            return Executors.newCachedThreadPool(factory);
+        }
+    }
+
+    private static final class Head<T> {
+        private final MongoCursor<T> cursor;
+        private T value;
+
+        private Head(MongoCursor<T> cursor, T value) {
+            this.cursor = cursor;
+            this.value = value;
+        }
+    }
+}
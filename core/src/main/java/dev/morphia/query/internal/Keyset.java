@@ -0,0 +1,215 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.lang.Nullable;
+import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.query.Page;
+import dev.morphia.query.Sort;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonNull;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
+import org.bson.conversions.Bson;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Builds the sorts and continuation filters for keyset pagination.  Rather than skipping the results of the earlier pages, each page is
+ * fetched with a filter matching only the documents sorting after the last one on the previous page so every page costs the same however
+ * deep it is.  For sorts on a, b and the id tie breaker the continuation filter is
+ * <pre>
+ * { $or: [ { a: { $gt: a0 } }, { a: a0, b: { $gt: b0 } }, { a: a0, b: b0, _id: { $gt: id0 } } ] }
+ * </pre>
+ * with {@code $lt} in place of {@code $gt} for descending sorts.  The values are carried between pages in an opaque token holding the
+ * sort the page was fetched with and the sort keys of the last document on the page.  Tokens are only accepted for that same sort.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class Keyset {
+    private static final String ID = "_id";
+    private static final String SORT = "sort";
+    private static final String VALUES = "values";
+    private static final BsonDocumentCodec TOKEN_CODEC = new BsonDocumentCodec();
+
+    private final int pageSize;
+    private final Sort[] sorts;
+    private final String[] paths;
+    private final boolean[] descending;
+
+    /**
+     * Creates a keyset for a sort.  The id is added as a final ascending sort, unless already present, so the order is total.
+     *
+     * @param mapper   the mapper
+     * @param type     the entity type
+     * @param pageSize the number of entities per page
+     * @param sorts    the sorts
+     */
+    public Keyset(Mapper mapper, Class<?> type, int pageSize, Sort... sorts) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException(Sofia.invalidPageSize(pageSize));
+        }
+        this.pageSize = pageSize;
+        EntityModel model = mapper.getEntityModel(type);
+        List<Sort> keys = new ArrayList<>(Arrays.asList(sorts));
+        List<String> translated = new ArrayList<>();
+        for (Sort sort : sorts) {
+            if (sort.getField().startsWith("$")) {
+                throw new IllegalArgumentException(Sofia.invalidPageSort(sort.getField()));
+            }
+            translated.add(new PathTarget(mapper, model, sort.getField()).translatedPath());
+        }
+        if (!translated.contains(ID)) {
+            keys.add(Sort.ascending(ID));
+            translated.add(ID);
+        }
+        this.sorts = keys.toArray(new Sort[0]);
+        paths = translated.toArray(new String[0]);
+        descending = new boolean[paths.length];
+        for (int i = 0; i < descending.length; i++) {
+            descending[i] = this.sorts[i].getOrder() < 0;
+        }
+    }
+
+    /**
+     * @return the sorts to fetch pages with including the id tie breaker
+     */
+    public Sort[] getSorts() {
+        return sorts.clone();
+    }
+
+    /**
+     * @return the number of entities per page
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Restricts a query to the documents after the page a token was issued for.
+     *
+     * @param query the query
+     * @param token the token from the previous page or null for the first page
+     * @return the restricted query
+     */
+    public Bson filter(Bson query, @Nullable String token) {
+        if (token == null) {
+            return query;
+        }
+        BsonValue[] values = parse(token);
+        BsonArray branches = new BsonArray();
+        for (int i = 0; i < paths.length; i++) {
+            if (values[i].isNull() && descending[i]) {
+                // missing and null values sort last when descending so nothing follows them on this key
+                continue;
+            }
+            BsonDocument branch = new BsonDocument();
+            for (int j = 0; j < i; j++) {
+                branch.append(paths[j], values[j]);
+            }
+            if (values[i].isNull()) {
+                branch.append(paths[i], new BsonDocument("$ne", BsonNull.VALUE));
+                branches.add(branch);
+            } else if (descending[i]) {
+                // comparisons never match null so those sorting after a descending value are matched separately
+                BsonArray range = new BsonArray();
+                range.add(new BsonDocument(paths[i], new BsonDocument("$lt", values[i])));
+                range.add(new BsonDocument(paths[i], BsonNull.VALUE));
+                branches.add(branch.append("$or", range));
+            } else {
+                branches.add(branch.append(paths[i], new BsonDocument("$gt", values[i])));
+            }
+        }
+        return Filters.and(query, new BsonDocument("$or", branches));
+    }
+
+    /**
+     * Reads a page from a cursor fetching one document more than the page size.  The extra document, if found, only signals that
+     * another page follows.
+     *
+     * @param cursor the cursor to read.  It is closed once read.
+     * @param codec  the codec to decode the entities with
+     * @param <T>    the entity type
+     * @return the page
+     */
+    public <T> Page<T> read(MongoCursor<RawBsonDocument> cursor, Codec<T> codec) {
+        List<T> entities = new ArrayList<>(pageSize);
+        RawBsonDocument last = null;
+        boolean more = false;
+        try (cursor) {
+            while (!more && cursor.hasNext()) {
+                RawBsonDocument document = cursor.next();
+                more = entities.size() == pageSize;
+                if (!more) {
+                    entities.add(document.decode(codec));
+                    last = document;
+                }
+            }
+        }
+        return new Page<>(entities, more ? token(last) : null);
+    }
+
+    private String token(RawBsonDocument document) {
+        BsonArray values = new BsonArray();
+        for (String path : paths) {
+            values.add(valueOf(document, path));
+        }
+        BsonDocument token = new BsonDocument(SORT, sortDocument()).append(VALUES, values);
+        ByteBuffer buffer = new RawBsonDocument(token, TOKEN_CODEC).getByteBuffer().asNIO();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * @return the paths and directions of the sort in the form the server takes them
+     */
+    private BsonDocument sortDocument() {
+        BsonDocument sort = new BsonDocument();
+        for (int i = 0; i < paths.length; i++) {
+            sort.append(paths[i], new BsonInt32(descending[i] ? -1 : 1));
+        }
+        return sort;
+    }
+
+    private BsonValue valueOf(BsonDocument document, String path) {
+        BsonValue value = document;
+        for (String segment : path.split("\\.")) {
+            value = value != null && value.isDocument() ? value.asDocument().get(segment) : null;
+        }
+        if (value != null && value.isArray()) {
+            // arrays sort by their smallest or largest element which can not be continued from
+            throw new IllegalArgumentException(Sofia.invalidPageSort(path));
+        }
+        return value != null ? value : BsonNull.VALUE;
+    }
+
+    private BsonValue[] parse(String token) {
+        BsonDocument sort;
+        BsonArray values;
+        try {
+            RawBsonDocument document = new RawBsonDocument(Base64.getUrlDecoder().decode(token));
+            sort = document.getDocument(SORT);
+            values = document.getArray(VALUES);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(Sofia.invalidPageToken(), e);
+        }
+        // a token issued for another sort, or the same keys in another direction, would continue from the wrong place
+        if (!new ArrayList<>(sort.entrySet()).equals(new ArrayList<>(sortDocument().entrySet())) || values.size() != paths.length) {
+            throw new IllegalArgumentException(Sofia.invalidPageToken());
+        }
+        return values.toArray(new BsonValue[0]);
+    }
+}
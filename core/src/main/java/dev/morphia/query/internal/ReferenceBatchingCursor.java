@@ -0,0 +1,120 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.reader.DocumentReader;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Decodes the results of a query a page at a time so that the references held by every entity in the page can be fetched together.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @see dev.morphia.query.FindOptions#batchReferences(boolean)
+ * @since 2.2
+ */
+public class ReferenceBatchingCursor<T> implements MongoCursor<T> {
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final MongoCursor<Document> wrapped;
+    private final Datastore datastore;
+    private final EntityModel model;
+    private final Codec<T> codec;
+    private final int pageSize;
+    private final ArrayDeque<T> page = new ArrayDeque<>();
+
+    /**
+     * Creates a cursor
+     *
+     * @param cursor    the cursor to read documents from
+     * @param datastore the datastore to use
+     * @param type      the entity type
+     * @param pageSize  the number of documents to decode at a time.  Values less than 1 use the default.
+     */
+    public ReferenceBatchingCursor(MongoCursor<Document> cursor, Datastore datastore, Class<T> type, int pageSize) {
+        this.wrapped = cursor;
+        this.datastore = datastore;
+        this.model = datastore.getMapper().getEntityModel(type);
+        this.codec = datastore.getMapper().getCodecRegistry().get(type);
+        this.pageSize = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+    }
+
+    @Override
+    public void close() {
+        page.clear();
+        wrapped.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !page.isEmpty() || wrapped.hasNext();
+    }
+
+    @Override
+    @NonNull
+    public T next() {
+        if (page.isEmpty()) {
+            if (!wrapped.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            readPage(wrapped.next(), pageSize);
+        }
+        return page.poll();
+    }
+
+    @Override
+    @Nullable
+    public T tryNext() {
+        if (page.isEmpty()) {
+            Document first = wrapped.tryNext();
+            if (first == null) {
+                return null;
+            }
+            // decode just this document so that tryNext() never blocks waiting to fill a page
+            readPage(first, 1);
+        }
+        return page.poll();
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    @NonNull
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private void readPage(Document first, int size) {
+        List<Document> documents = new ArrayList<>(size);
+        documents.add(first);
+        while (documents.size() < size && wrapped.hasNext()) {
+            documents.add(wrapped.next());
+        }
+        try (ReferenceBatch ignored = ReferenceBatch.open(datastore, model, documents)) {
+            for (Document document : documents) {
+                page.add(codec.decode(new DocumentReader(document), DecoderContext.builder().build()));
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package dev.morphia.test;
+
+import dev.morphia.Datastore;
+import dev.morphia.VersionMismatchException;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.LoadOnly;
+import dev.morphia.annotations.Version;
+import dev.morphia.internal.EntitySnapshots;
+import dev.morphia.mapping.MapperOptions;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.morphia.Morphia.createDatastore;
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class TestDeltaUpdates extends TestBase {
+    @Test
+    public void testDiff() {
+        RawBsonDocument before = RawBsonDocument.parse("{_id: 1, name: 'a', count: 1, tags: ['x'], gone: true, same: {a: [1, 2]}}");
+        RawBsonDocument after = RawBsonDocument.parse("{_id: 1, name: 'a', count: 2, tags: ['x', 'y', 'z'], same: {a: [1, 2]}, added: 3}");
+
+        assertEquals(EntitySnapshots.diff(before, after, name -> true),
+            BsonDocument.parse("{$set: {count: 2, added: 3}, $unset: {gone: ''}, $push: {tags: {$each: ['y', 'z']}}}"));
+        assertEquals(EntitySnapshots.diff(before, after, name -> false),
+            BsonDocument.parse("{$set: {count: 2, added: 3}, $push: {tags: {$each: ['y', 'z']}}}"));
+        assertEquals(EntitySnapshots.diff(before, before, name -> true), new BsonDocument());
+        assertEquals(EntitySnapshots.diff(RawBsonDocument.parse("{tags: ['x', 'y']}"), RawBsonDocument.parse("{tags: ['y', 'x', 'z']}"),
+            name -> true), BsonDocument.parse("{$set: {tags: ['y', 'x', 'z']}}"));
+        assertEquals(EntitySnapshots.diff(RawBsonDocument.parse("{count: 1}"), RawBsonDocument.parse("{count: NumberLong(1)}"),
+            name -> true), BsonDocument.parse("{$set: {count: NumberLong(1)}}"));
+    }
+
+    @Test
+    public void testDeltaSave() {
+        Datastore datastore = createDatastore(getMongoClient(), TEST_DB_NAME, MapperOptions.builder().trackChanges(true).build());
+        datastore.getMapper().map(Tracked.class);
+        Tracked tracked = new Tracked();
+        tracked.id = new ObjectId();
+        tracked.name = "tracked";
+        tracked.tags.add("first");
+        datastore.save(tracked);
+
+        Tracked loaded = datastore.find(Tracked.class).filter(eq("_id", tracked.id)).first();
+        assertNotNull(datastore.getMapper().getSnapshots().get(loaded));
+        getDatabase().getCollection("tracked")
+                     .updateOne(new Document("_id", tracked.id), new Document("$set", new Document("name", "renamed")));
+
+        loaded.count++;
+        loaded.tags.add("second");
+        datastore.save(loaded);
+
+        Document document = getDatabase().getCollection("tracked").find(new Document("_id", tracked.id)).first();
+        assertEquals(document.getString("name"), "renamed", "untouched properties should not be written");
+        assertEquals(document.getInteger("count"), Integer.valueOf(1));
+        assertEquals(document.getList("tags", String.class), List.of("first", "second"));
+
+        loaded.name = null;
+        datastore.save(loaded);
+        document = getDatabase().getCollection("tracked").find(new Document("_id", tracked.id)).first();
+        assertTrue(!document.containsKey("name"));
+
+        loaded.name = "renamed";
+        datastore.save(loaded);
+        document = getDatabase().getCollection("tracked").find(new Document("_id", tracked.id)).first();
+        assertEquals(document.getString("name"), "renamed");
+    }
+
+    @Test
+    public void testVersioning() {
+        Datastore datastore = createDatastore(getMongoClient(), TEST_DB_NAME, MapperOptions.builder().trackChanges(true).build());
+        datastore.getMapper().map(Versioned.class);
+        Versioned versioned = new Versioned();
+        versioned.name = "first";
+        datastore.save(versioned);
+
+        Versioned first = datastore.find(Versioned.class).filter(eq("_id", versioned.id)).first();
+        Versioned second = datastore.find(Versioned.class).filter(eq("_id", versioned.id)).first();
+        first.name = "second";
+        datastore.save(first);
+        assertEquals(first.version, Long.valueOf(2));
+
+        second.name = "third";
+        try {
+            datastore.save(second);
+            fail("Saving a stale entity should fail");
+        } catch (VersionMismatchException e) {
+            assertEquals(second.version, Long.valueOf(1));
+        }
+
+        datastore.save(first);
+        assertEquals(first.version, Long.valueOf(3));
+        Document document = getDatabase().getCollection("versioned").find(new Document("_id", versioned.id)).first();
+        assertEquals(document.getString("name"), "second");
+        assertEquals(document.getLong("version"), Long.valueOf(3));
+    }
+
+    @Test
+    public void testUnwrittenFields() {
+        Datastore datastore = createDatastore(getMongoClient(), TEST_DB_NAME, MapperOptions.builder().trackChanges(true).build());
+        datastore.getMapper().map(Partial.class);
+        ObjectId id = new ObjectId();
+        getDatabase().getCollection("partial")
+                     .insertOne(new Document("_id", id).append("name", "first").append("computed", "kept").append("unmapped", 42));
+
+        Partial loaded = datastore.find(Partial.class).filter(eq("_id", id)).first();
+        assertEquals(loaded.computed, "kept");
+        loaded.name = "second";
+        datastore.save(loaded);
+
+        Document document = getDatabase().getCollection("partial").find(new Document("_id", id)).first();
+        assertEquals(document.getString("name"), "second");
+        assertEquals(document.getString("computed"), "kept", "load only properties should not be unset");
+        assertEquals(document.getInteger("unmapped"), Integer.valueOf(42), "unmapped fields should not be unset");
+    }
+
+    @Test
+    public void testUntracked() {
+        Datastore datastore = createDatastore(getMongoClient(), TEST_DB_NAME);
+        datastore.getMapper().map(Tracked.class);
+        assertNull(datastore.getMapper().getSnapshots());
+    }
+
+    @Entity("tracked")
+    private static class Tracked {
+        @Id
+        private ObjectId id;
+        private String name;
+        private int count;
+        private List<String> tags = new ArrayList<>();
+    }
+
+    @Entity(value = "partial", useDiscriminator = false)
+    private static class Partial {
+        @Id
+        private ObjectId id;
+        private String name;
+        @LoadOnly
+        private String computed;
+    }
+
+    @Entity("versioned")
+    private static class Versioned {
+        @Id
+        private ObjectId id;
+        @Version
+        private Long version;
+        private String name;
+    }
+}
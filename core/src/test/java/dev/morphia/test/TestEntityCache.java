@@ -0,0 +1,206 @@
+package dev.morphia.test;
+
+import com.mongodb.ReadPreference;
+import dev.morphia.Datastore;
+import dev.morphia.annotations.Cacheable;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.internal.EntityCache;
+import dev.morphia.mapping.codec.pojo.LazyEntity;
+import dev.morphia.mapping.experimental.MorphiaReference;
+import dev.morphia.query.FindOptions;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static dev.morphia.Morphia.createDatastore;
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.updates.UpdateOperators.set;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestEntityCache extends TestBase {
+    @Test
+    public void testEviction() throws InterruptedException {
+        EntityCache cache = new EntityCache(2, 50, TimeUnit.MILLISECONDS);
+        RawBsonDocument document = RawBsonDocument.parse("{}");
+        cache.put(1, document, cache.stamp());
+        cache.put(2, document, cache.stamp());
+        assertNotNull(cache.get(1));
+        cache.put(3, document, cache.stamp());
+        assertNull(cache.get(2));
+        assertNotNull(cache.get(1));
+        assertEquals(cache.getEvictions(), 1);
+
+        long stamp = cache.stamp();
+        cache.invalidate(1);
+        cache.put(1, document, stamp);
+        assertNull(cache.get(1));
+
+        Thread.sleep(100);
+        assertNull(cache.get(3));
+        assertEquals(cache.getEvictions(), 2);
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testHolds() {
+        EntityCache cache = new EntityCache(10, 0, TimeUnit.SECONDS);
+        RawBsonDocument document = RawBsonDocument.parse("{}");
+        cache.put(1, document, cache.stamp());
+        AtomicBoolean open = new AtomicBoolean(true);
+        cache.hold(1, open::get);
+        assertNull(cache.get(1));
+
+        cache.put(1, document, cache.stamp());
+        assertNull(cache.get(1), "documents should not be cached while a transaction writing them is open");
+        cache.put(2, document, cache.stamp());
+        assertNotNull(cache.get(2));
+
+        long stamp = cache.stamp();
+        open.set(false);
+        cache.put(1, document, stamp);
+        assertNull(cache.get(1), "documents read before the transaction ended may predate its commit");
+        cache.put(1, document, cache.stamp());
+        assertNotNull(cache.get(1));
+    }
+
+    @Test
+    public void testIdLookups() {
+        Datastore datastore = createDatastore(getMongoClient(), TEST_DB_NAME);
+        datastore.getMapper().map(Country.class);
+        datastore.save(new Country("fr", "France"));
+
+        Country first = datastore.find(Country.class).filter(eq("_id", "fr")).first();
+        Country second = datastore.find(Country.class).filter(eq("id", "fr")).first();
+        assertEquals(second.name, "France");
+        assertNotSame(first, second);
+        EntityCache cache = datastore.getMapper().getEntityCache(Country.class);
+        assertEquals(cache.getMisses(), 1);
+        assertEquals(cache.getHits(), 1);
+
+        getDatabase().getCollection("countries")
+                     .updateOne(new Document("_id", "fr"), new Document("$set", new Document("name", "Gaul")));
+        assertEquals(datastore.find(Country.class).filter(eq("_id", "fr")).first().name, "France");
+
+        datastore.find(Country.class).filter(eq("_id", "fr")).update(set("name", "République")).execute();
+        assertEquals(datastore.find(Country.class).filter(eq("_id", "fr")).first().name, "République");
+
+        datastore.save(new Country("fr", "France"));
+        assertEquals(datastore.find(Country.class).filter(eq("_id", "fr")).first().name, "France");
+
+        datastore.delete(new Country("fr", null));
+        assertNull(datastore.find(Country.class).filter(eq("_id", "fr")).first());
+    }
+
+    @Test
+    public void testLazyLoad() {
+        Datastore datastore = createDatastore(getMongoClient(), TEST_DB_NAME);
+        datastore.getMapper().map(City.class);
+        datastore.save(new City("paris", "Paris"));
+
+        assertFalse(datastore.find(City.class).filter(eq("_id", "paris")).first() instanceof LazyEntity);
+        City lazy = datastore.find(City.class).filter(eq("_id", "paris")).first(new FindOptions().lazyLoad(true));
+        assertTrue(lazy instanceof LazyEntity, "cached documents should be decoded lazily when asked to");
+        assertEquals(lazy.getName(), "Paris");
+        assertEquals(datastore.getMapper().getEntityCache(City.class).getHits(), 1);
+    }
+
+    @Test
+    public void testSharedCollection() {
+        Datastore datastore = createDatastore(getMongoClient(), TEST_DB_NAME);
+        datastore.getMapper().map(Country.class, Kingdom.class);
+        datastore.save(List.of(new Country("fr", "France"), new Kingdom("es", "Spain")));
+
+        for (int i = 0; i < 2; i++) {
+            assertNull(datastore.find(Kingdom.class).filter(eq("_id", "fr")).first(), "a parent type should never be returned");
+            assertEquals(datastore.find(Country.class).filter(eq("_id", "fr")).first().name, "France");
+            assertTrue(datastore.find(Country.class).filter(eq("_id", "es")).first() instanceof Kingdom);
+        }
+
+        EntityCache cache = datastore.getMapper().getEntityCache(Country.class);
+        long hits = cache.getHits();
+        datastore.find(Country.class).filter(eq("_id", "fr")).first(new FindOptions().readPreference(ReadPreference.primary()));
+        assertEquals(cache.getHits(), hits, "reads asking for a read preference should bypass the cache");
+    }
+
+    @Test
+    public void testReferences() {
+        Datastore datastore = createDatastore(getMongoClient(), TEST_DB_NAME);
+        datastore.getMapper().map(Country.class, Trip.class);
+        datastore.save(List.of(new Country("fr", "France"), new Country("it", "Italy")));
+        Trip trip = new Trip();
+        trip.id = "summer";
+        trip.countries = MorphiaReference.wrap(List.of(new Country("fr", "France"), new Country("it", "Italy")));
+        datastore.save(trip);
+
+        for (int i = 0; i < 2; i++) {
+            Trip loaded = datastore.find(Trip.class).first();
+            assertEquals(loaded.countries.get().size(), 2);
+        }
+        EntityCache cache = datastore.getMapper().getEntityCache(Country.class);
+        assertEquals(cache.getMisses(), 2);
+        assertEquals(cache.getHits(), 2);
+    }
+
+    @Entity("countries")
+    @Cacheable(maxSize = 10)
+    private static class Country {
+        @Id
+        private String id;
+        private String name;
+
+        Country() {
+        }
+
+        Country(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Entity("countries")
+    private static class Kingdom extends Country {
+        Kingdom() {
+        }
+
+        Kingdom(String id, String name) {
+            super(id, name);
+        }
+    }
+
+    @Entity("cities")
+    @Cacheable(maxSize = 10)
+    public static class City {
+        @Id
+        protected String id;
+        protected String name;
+
+        public City() {
+        }
+
+        City(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    @Entity("trips")
+    private static class Trip {
+        @Id
+        private String id;
+        private MorphiaReference<List<Country>> countries;
+    }
+}
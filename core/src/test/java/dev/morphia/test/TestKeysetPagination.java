@@ -0,0 +1,106 @@
+package dev.morphia.test;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Property;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Page;
+import dev.morphia.query.Query;
+import dev.morphia.query.Sort;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static dev.morphia.query.Sort.ascending;
+import static dev.morphia.query.Sort.descending;
+import static dev.morphia.query.experimental.filters.Filters.gte;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class TestKeysetPagination extends TestBase {
+    @Test
+    public void testPaging() {
+        save(53);
+
+        assertPages(getDs().find(Ranked.class), 10, ascending("category"), descending("rank"));
+        assertPages(getDs().find(Ranked.class), 7, descending("category"), ascending("rank"));
+        assertPages(getDs().find(Ranked.class).filter(gte("category", 2)), 4, ascending("rank"));
+        assertPages(getDs().find(Ranked.class), 53);
+    }
+
+    @Test
+    public void testLastPage() {
+        save(20);
+
+        Page<Ranked> page = getDs().find(Ranked.class).page(20, null, ascending("rank"));
+        assertEquals(page.getEntities().size(), 20);
+        assertFalse(page.hasNext());
+        assertNull(page.getNextToken());
+
+        page = getDs().find(Ranked.class).page(new FindOptions().skip(5).limit(2), 15, null, ascending("rank"));
+        assertEquals(page.getEntities().size(), 15, "skip and limit should be replaced");
+        assertTrue(page.hasNext());
+        assertEquals(getDs().find(Ranked.class).page(15, page.getNextToken(), ascending("rank")).getEntities().size(), 5);
+    }
+
+    @Test
+    public void testInvalid() {
+        save(5);
+
+        Query<Ranked> query = getDs().find(Ranked.class);
+        String token = query.page(2, null, ascending("rank")).getNextToken();
+        expectThrows(IllegalArgumentException.class, () -> query.page(2, token, descending("category")));
+        expectThrows(IllegalArgumentException.class, () -> query.page(2, token, descending("rank")));
+        expectThrows(IllegalArgumentException.class, () -> query.page(2, "not a token", ascending("rank")));
+        expectThrows(IllegalArgumentException.class, () -> query.page(0, null, ascending("rank")));
+        expectThrows(IllegalArgumentException.class, () -> query.page(2, null, Sort.naturalAscending()));
+    }
+
+    private void assertPages(Query<Ranked> query, int pageSize, Sort... sorts) {
+        List<Sort> withId = new ArrayList<>(List.of(sorts));
+        withId.add(ascending("_id"));
+        List<ObjectId> expected = query.iterator(new FindOptions().sort(withId.toArray(new Sort[0])))
+                                       .toList()
+                                       .stream()
+                                       .map(r -> r.id)
+                                       .collect(Collectors.toList());
+
+        List<ObjectId> paged = new ArrayList<>();
+        String token = null;
+        do {
+            Page<Ranked> page = query.page(pageSize, token, sorts);
+            assertTrue(page.getEntities().size() <= pageSize);
+            page.getEntities().forEach(r -> paged.add(r.id));
+            token = page.getNextToken();
+        } while (token != null);
+        assertEquals(paged, expected);
+    }
+
+    private void save(int count) {
+        getMapper().map(Ranked.class);
+        List<Ranked> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Ranked ranked = new Ranked();
+            ranked.category = i % 4;
+            // leave some ranks missing and repeat the rest to exercise the null handling and the id tie breaker
+            ranked.rank = i % 5 == 0 ? null : i % 3;
+            entities.add(ranked);
+        }
+        getDs().save(entities);
+    }
+
+    @Entity("ranked")
+    private static class Ranked {
+        @Id
+        private ObjectId id;
+        @Property("c")
+        private int category;
+        private Integer rank;
+    }
+}
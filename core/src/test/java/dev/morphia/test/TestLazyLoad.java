@@ -0,0 +1,152 @@
+package dev.morphia.test;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.LazyLoad;
+import dev.morphia.mapping.codec.pojo.LazyEntity;
+import dev.morphia.mapping.codec.references.MorphiaProxy;
+import dev.morphia.query.FindOptions;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestLazyLoad extends TestBase {
+    @Test
+    public void testAnnotated() {
+        getMapper().map(Lazy.class);
+        Lazy lazy = new Lazy();
+        lazy.name = "lazy";
+        lazy.tags = List.of("a", "b");
+        lazy.counts = Map.of("a", 1);
+        getDs().save(lazy);
+
+        Lazy loaded = getDs().find(Lazy.class).filter(eq("_id", lazy.id)).first();
+        assertTrue(loaded instanceof LazyEntity);
+        assertEquals(loaded.id, lazy.id, "the id should be loaded up front");
+        assertNull(loaded.name);
+        assertFalse(((MorphiaProxy) loaded).isFetched());
+
+        assertEquals(loaded.getName(), "lazy");
+        assertNull(loaded.tags, "reading one property should not load the others");
+
+        loaded.setName("renamed");
+        assertEquals(loaded.describe(), "renamed [a, b]");
+        assertTrue(((MorphiaProxy) loaded).isFetched());
+        assertEquals(loaded.counts, Map.of("a", 1));
+    }
+
+    @Test
+    public void testQueryOption() {
+        getMapper().map(Plain.class);
+        Plain plain = new Plain();
+        plain.name = "plain";
+        plain.tags = List.of("a");
+        getDs().save(plain);
+
+        assertFalse(getDs().find(Plain.class).first() instanceof LazyEntity);
+        Plain loaded = getDs().find(Plain.class).first(new FindOptions().lazyLoad(true));
+        assertTrue(loaded instanceof LazyEntity);
+        assertEquals(loaded.getTags(), List.of("a"));
+        assertNull(loaded.name);
+
+        loaded.setTags(List.of("b"));
+        getDs().save(loaded);
+        Document document = getDatabase().getCollection("plain").find().first();
+        assertNotNull(document);
+        assertEquals(document.getString("name"), "plain", "properties never read should be saved as they were loaded");
+        assertEquals(document.getList("tags", String.class), List.of("b"));
+        assertEquals(document.getString("_t"), "Plain");
+    }
+
+    @Test
+    public void testEagerAfterLazy() {
+        getMapper().map(Plain.class, Holder.class);
+        Holder holder = new Holder();
+        holder.plain = new Plain();
+        holder.plain.name = "nested";
+        getDs().save(holder);
+
+        assertFalse(getDs().find(Holder.class).first().plain instanceof LazyEntity);
+        Holder lazy = getDs().find(Holder.class).first(new FindOptions().lazyLoad(true));
+        assertTrue(lazy instanceof LazyEntity);
+
+        Holder eager = getDs().find(Holder.class).first();
+        assertFalse(eager instanceof LazyEntity);
+        assertFalse(eager.plain instanceof LazyEntity, "lazy queries should not change how eager queries decode");
+        assertEquals(eager.plain.name, "nested");
+    }
+
+    @Test
+    public void testUnsupported() {
+        getMapper().map(Hidden.class);
+        Hidden hidden = new Hidden();
+        hidden.name = "hidden";
+        getDs().save(hidden);
+
+        Hidden loaded = getDs().find(Hidden.class).first(new FindOptions().lazyLoad(true));
+        assertFalse(loaded instanceof LazyEntity);
+        assertEquals(loaded.name, "hidden");
+    }
+
+    @Entity("lazy")
+    @LazyLoad
+    public static class Lazy {
+        @Id
+        protected ObjectId id;
+        protected String name;
+        protected List<String> tags;
+        protected Map<String, Integer> counts;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String describe() {
+            return name + " " + tags;
+        }
+    }
+
+    @Entity("plain")
+    public static class Plain {
+        @Id
+        protected ObjectId id;
+        protected String name;
+        protected List<String> tags;
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+
+    @Entity("holders")
+    public static class Holder {
+        @Id
+        protected ObjectId id;
+        protected Plain plain;
+    }
+
+    @Entity("hidden")
+    private static class Hidden {
+        @Id
+        private ObjectId id;
+        private String name;
+    }
+}
@@ -1,5 +1,7 @@
 package dev.morphia.test;
 
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
 import dev.morphia.Datastore;
 import dev.morphia.annotations.AlsoLoad;
 import dev.morphia.annotations.Entity;
@@ -9,9 +11,14 @@ import dev.morphia.annotations.experimental.EmbeddedBuilder;
 import dev.morphia.annotations.experimental.Name;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
+import dev.morphia.mapping.MapperOptions.PropertyAccess;
 import dev.morphia.mapping.MapperOptions.PropertyDiscovery;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.NamingStrategy;
+import dev.morphia.mapping.NotMappableException;
+import dev.morphia.mapping.codec.FieldHandleAccessor;
+import dev.morphia.mapping.codec.MethodHandleAccessor;
+import dev.morphia.mapping.codec.PrimitiveAccessor;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.experimental.MorphiaReference;
@@ -41,16 +48,19 @@ import org.testng.annotations.Ignore;
 import org.testng.annotations.Test;
 
 import java.io.Serializable;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
 
 import static dev.morphia.Morphia.createDatastore;
+import static dev.morphia.query.Sort.ascending;
 import static dev.morphia.query.experimental.filters.Filters.eq;
 import static dev.morphia.query.experimental.filters.Filters.exists;
 import static java.util.stream.Collectors.toList;
@@ -58,6 +68,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
@@ -229,6 +240,17 @@ public class TestMapping extends TestBase {
         assertNotNull(loaded.id);
     }
 
+    @Test
+    public void testCollectionCaching() {
+        Mapper mapper = getMapper();
+        MongoCollection<ContainsWriteConcern> collection = mapper.getCollection(ContainsWriteConcern.class);
+
+        assertSame(mapper.getCollection(ContainsWriteConcern.class), collection);
+        assertEquals(collection.getWriteConcern(), WriteConcern.MAJORITY);
+        assertEquals(mapper.getWriteConcern(ContainsWriteConcern.class), WriteConcern.MAJORITY);
+        assertNull(mapper.getWriteConcern(ContainsByteArray.class));
+    }
+
     @Test
     public void testEmbeddedArrayElementHasNoClassname() {
         getMapper().map(ContainsEmbeddedArray.class);
@@ -561,6 +583,131 @@ public class TestMapping extends TestBase {
 
     }
 
+    @Test
+    public void testMappableLookups() {
+        Mapper mapper = createDatastore(getMongoClient(), TEST_DB_NAME).getMapper();
+        assertTrue(mapper.isMappable(Foo1.class));
+        assertTrue(mapper.isMappable(ContainsByteArray.class));
+        assertFalse(mapper.isMappable(UnannotatedEntity.class));
+
+        EntityModel model = mapper.getEntityModel(ContainsByteArray.class);
+        assertSame(mapper.getEntityModel(ContainsByteArray.class), model);
+        assertThrows(NotMappableException.class, () -> mapper.getEntityModel(UnannotatedEntity.class));
+
+        EntityModel external = mapper.mapExternal(null, UnannotatedEntity.class);
+        assertSame(mapper.getEntityModel(UnannotatedEntity.class), external);
+    }
+
+    @Test
+    public void testMethodHandleAccess() {
+        Datastore datastore = createDatastore(getMongoClient(), TEST_DB_NAME,
+            MapperOptions.builder()
+                         .propertyAccess(PropertyAccess.METHOD_HANDLES)
+                         .build());
+
+        datastore.getMapper().map(HasFinalFieldId.class, ContainsIntegerList.class);
+        final long savedKey = datastore.save(new HasFinalFieldId(12)).id;
+        final HasFinalFieldId loaded = datastore.find(HasFinalFieldId.class)
+                                                .filter(eq("_id", savedKey))
+                                                .first();
+        assertNotNull(loaded);
+        assertEquals(loaded.id, 12);
+        assertEquals(loaded.name, "some string");
+
+        ContainsIntegerList list = new ContainsIntegerList();
+        list.intList = List.of(1, 2, 3);
+        datastore.save(list);
+        ContainsIntegerList loadedList = datastore.find(ContainsIntegerList.class)
+                                                  .filter(eq("_id", list.id))
+                                                  .first();
+        assertNotNull(loadedList);
+        assertEquals(loadedList.intList, list.intList);
+
+        datastore = createDatastore(getMongoClient(), TEST_DB_NAME,
+            MapperOptions.builder()
+                         .propertyDiscovery(PropertyDiscovery.METHODS)
+                         .propertyAccess(PropertyAccess.METHOD_HANDLES)
+                         .build());
+        EntityModel model = datastore.getMapper().map(MethodMappedUser.class).get(0);
+        MethodMappedUser user = new MethodMappedUser();
+        PropertyModel joined = model.getProperty("dateJoined");
+        assertTrue(joined.getAccessor() instanceof MethodHandleAccessor);
+        joined.getAccessor().set(user, LocalDate.of(2020, 2, 2));
+        assertEquals(user.getJoined(), LocalDate.of(2020, 2, 2));
+        assertEquals(joined.getAccessor().get(user), LocalDate.of(2020, 2, 2));
+
+        MethodHandleAccessor age = (MethodHandleAccessor) model.getProperty("age").getAccessor();
+        assertNull(((MethodHandleAccessor) joined.getAccessor()).getPrimitiveAccessor());
+        PrimitiveAccessor primitive = age.getPrimitiveAccessor();
+        assertNotNull(primitive);
+        assertEquals(primitive.getType(), int.class);
+        primitive.setInt(user, 42);
+        assertEquals(user.getAge(), 42);
+        assertEquals(primitive.getInt(user), 42);
+        assertEquals(age.get(user), 42);
+    }
+
+    @Test
+    public void testDiscriminatorPosition() {
+        getMapper().map(Animal.class, Dog.class);
+        ObjectId first = new ObjectId();
+        ObjectId last = new ObjectId();
+        ObjectId parent = new ObjectId();
+        getDatabase().getCollection("animals").insertMany(List.of(
+            new Document("_id", first).append("_t", "Dog").append("name", "first").append("barks", 1),
+            new Document("_id", last).append("name", "last").append("barks", 2).append("_t", "Dog"),
+            new Document("_id", parent).append("name", "parent")));
+
+        List<Animal> animals = getDs().find(Animal.class).iterator(new FindOptions().sort(ascending("_id"))).toList();
+        assertEquals(animals.size(), 3);
+        assertEquals(animals.get(0).getClass(), Dog.class);
+        assertEquals(((Dog) animals.get(0)).barks, 1);
+        assertEquals(animals.get(1).getClass(), Dog.class, "a discriminator after the first elements should still be found");
+        assertEquals(((Dog) animals.get(1)).barks, 2);
+        assertEquals(animals.get(2).getClass(), Animal.class);
+        assertEquals(animals.get(2).name, "parent");
+    }
+
+    @Test
+    public void testMethodHandlePrimitives() {
+        Datastore datastore = createDatastore(getMongoClient(), TEST_DB_NAME,
+            MapperOptions.builder()
+                         .propertyAccess(PropertyAccess.METHOD_HANDLES)
+                         .build());
+        EntityModel model = datastore.getMapper().map(ContainsPrimitives.class).get(0);
+        for (String name : List.of("flag", "count", "total", "ratio")) {
+            assertNotNull(((FieldHandleAccessor) model.getProperty(name).getAccessor()).getPrimitiveAccessor(), name);
+        }
+
+        ContainsPrimitives primitives = new ContainsPrimitives();
+        primitives.flag = true;
+        primitives.count = 7;
+        primitives.total = Long.MAX_VALUE;
+        primitives.ratio = 0.5;
+        datastore.save(primitives);
+
+        Document document = getDatabase().getCollection("primitives").find().first();
+        assertNotNull(document);
+        assertEquals(document.get("flag"), true);
+        assertEquals(document.get("count"), 7);
+        assertEquals(document.get("total"), Long.MAX_VALUE);
+        assertEquals(document.get("ratio"), 0.5);
+
+        ContainsPrimitives loaded = datastore.find(ContainsPrimitives.class).first();
+        assertNotNull(loaded);
+        assertTrue(loaded.flag);
+        assertEquals(loaded.count, 7);
+        assertEquals(loaded.total, Long.MAX_VALUE);
+        assertEquals(loaded.ratio, 0.5);
+
+        // values stored with another numeric type still go through the codec's conversions
+        getDatabase().getCollection("primitives")
+                     .updateOne(new Document("_id", primitives.id), new Document("$set", new Document("total", 12).append("ratio", 3)));
+        loaded = datastore.find(ContainsPrimitives.class).first();
+        assertEquals(loaded.total, 12L);
+        assertEquals(loaded.ratio, 3.0);
+    }
+
     @Test
 
     public void testMethodMapping() {
@@ -603,6 +750,43 @@ public class TestMapping extends TestBase {
         assertEquals(getDs().find(ContainsIntKeyMap.class).filter(exists("values.4")).count(), 0);
     }
 
+    @Test
+    public void testOutOfOrderFields() {
+        getMapper().map(ContainsIntegerList.class, ContainsIntegerListNew.class);
+        ObjectId id = new ObjectId();
+        getDatabase().getCollection("cil")
+                     .insertOne(new Document("unknown", "ignored")
+                                    .append("intList", List.of(1, 2))
+                                    .append("_id", id));
+
+        ContainsIntegerList list = getDs().find(ContainsIntegerList.class).first();
+        assertNotNull(list);
+        assertEquals(list.id, id);
+        assertEquals(list.intList, List.of(1, 2));
+
+        ContainsIntegerListNew aliased = getDs().find(ContainsIntegerListNew.class).first();
+        assertNotNull(aliased);
+        assertEquals(aliased.id, id);
+        assertEquals(aliased.integers, List.of(1, 2));
+    }
+
+    @Test
+    public void testParallelMapping() {
+        Mapper mapper = createDatastore(getMongoClient(), TEST_DB_NAME).getMapper();
+        List<Class> classes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            classes.add(i % 2 == 0 ? Png.class : Jpg.class);
+        }
+        List<EntityModel> models = mapper.map(classes);
+
+        assertEquals(models.size(), classes.size());
+        assertEquals(models.stream().distinct().count(), 2);
+        List<EntityModel> subtypes = mapper.getEntityModel(BlogImage.class).getSubtypes();
+        assertEquals(subtypes.size(), 2);
+        assertTrue(subtypes.contains(mapper.getEntityModel(Png.class)));
+        assertTrue(subtypes.contains(mapper.getEntityModel(Jpg.class)));
+    }
+
     @Test
     public void testPrimMap() {
         final ContainsPrimitiveMap primMap = new ContainsPrimitiveMap();
@@ -621,6 +805,35 @@ public class TestMapping extends TestBase {
         assertEquals(primMapLoaded.values.size(), 2);
     }
 
+    @Test
+    public void testPrimitiveArrays() {
+        getMapper().map(ContainsPrimitiveArrays.class);
+        ContainsPrimitiveArrays arrays = new ContainsPrimitiveArrays();
+        arrays.doubles = new double[10_000];
+        for (int i = 0; i < arrays.doubles.length; i++) {
+            arrays.doubles[i] = i / 3.0;
+        }
+        arrays.ints = new int[]{1, -2, Integer.MAX_VALUE};
+        arrays.longs = new long[]{1L, -2L, Long.MAX_VALUE};
+        arrays.numbers = new HashSet<>(List.of(1, 2, 3));
+        getDs().save(arrays);
+
+        for (int i = 0; i < 2; i++) {
+            ContainsPrimitiveArrays loaded = getDs().find(ContainsPrimitiveArrays.class).first();
+            assertEquals(loaded.doubles, arrays.doubles);
+            assertEquals(loaded.ints, arrays.ints);
+            assertEquals(loaded.longs, arrays.longs);
+            assertEquals(loaded.numbers, arrays.numbers);
+        }
+
+        getDocumentCollection(ContainsPrimitiveArrays.class)
+            .updateOne(new Document("_id", arrays.id), new Document("$set", new Document("doubles", List.of(1, 2L, 3.5))
+                                                                                  .append("longs", List.of(4, 5L))));
+        ContainsPrimitiveArrays loaded = getDs().find(ContainsPrimitiveArrays.class).first();
+        assertEquals(loaded.doubles, new double[]{1, 2, 3.5});
+        assertEquals(loaded.longs, new long[]{4, 5});
+    }
+
     @Test
     public void testPrimMapWithNullValue() {
         final ContainsPrimitiveMap primMap = new ContainsPrimitiveMap();
@@ -879,6 +1092,38 @@ public class TestMapping extends TestBase {
         }
     }
 
+    @Entity
+    private static class ContainsPrimitiveArrays {
+        @Id
+        private ObjectId id;
+        private double[] doubles;
+        private int[] ints;
+        private long[] longs;
+        private Set<Integer> numbers;
+    }
+
+    @Entity("animals")
+    private static class Animal {
+        @Id
+        private ObjectId id;
+        private String name;
+    }
+
+    @Entity("animals")
+    private static class Dog extends Animal {
+        private int barks;
+    }
+
+    @Entity("primitives")
+    private static class ContainsPrimitives {
+        @Id
+        private ObjectId id;
+        private boolean flag;
+        private int count;
+        private long total;
+        private double ratio;
+    }
+
     @Entity
     private static class ContainsPrimitiveMap {
         private final Map<String, Long> embeddedValues = new HashMap<>();
@@ -887,6 +1132,12 @@ public class TestMapping extends TestBase {
         private ObjectId id;
     }
 
+    @Entity(concern = "MAJORITY")
+    private static class ContainsWriteConcern {
+        @Id
+        private ObjectId id;
+    }
+
     private static class Foo1 implements Foo {
         private String s;
     }
@@ -0,0 +1,161 @@
+package dev.morphia.test;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.PostLoad;
+import dev.morphia.annotations.Transient;
+import dev.morphia.mapping.codec.pojo.LazyEntity;
+import dev.morphia.query.FindOptions;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static dev.morphia.query.Sort.ascending;
+import static dev.morphia.query.experimental.filters.Filters.gte;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class TestQueryStream extends TestBase {
+    @Test
+    public void testOrder() {
+        List<Integer> expected = save(250);
+
+        List<Integer> values = getDs().find(Counted.class)
+                                      .stream(new FindOptions().sort(ascending("value")).batchSize(7))
+                                      .map(c -> c.value)
+                                      .collect(Collectors.toList());
+        assertEquals(values, expected);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (Stream<Counted> stream = getDs().find(Counted.class)
+                                             .filter(gte("value", 100))
+                                             .stream(new FindOptions().sort(ascending("value")).batchSize(3), executor)) {
+            assertEquals(stream.map(c -> c.value).collect(Collectors.toList()), expected.subList(100, expected.size()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallel() {
+        List<Integer> expected = save(500);
+
+        List<Integer> values = getDs().find(Counted.class)
+                                      .stream(new FindOptions().sort(ascending("value")).batchSize(10))
+                                      .parallel()
+                                      .map(c -> c.value)
+                                      .collect(Collectors.toList());
+        assertEquals(values, expected);
+        assertEquals(getDs().find(Counted.class).stream().parallel().mapToInt(c -> c.value).sum(),
+            expected.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    public void testEarlyClose() {
+        save(100);
+
+        try (Stream<Counted> stream = getDs().find(Counted.class).stream(new FindOptions().batchSize(5))) {
+            Iterator<Counted> iterator = stream.iterator();
+            assertTrue(iterator.hasNext());
+            iterator.next();
+        }
+        try (Stream<Counted> stream = getDs().find(Counted.class).stream()) {
+            assertEquals(stream.limit(10).count(), 10);
+        }
+        try (Stream<Counted> stream = getDs().find(Counted.class).filter(gte("value", 1000)).stream()) {
+            assertFalse(stream.iterator().hasNext());
+        }
+    }
+
+    @Test
+    public void testDefaultExecutor() {
+        save(50);
+
+        List<String> threads = getDs().find(Counted.class)
+                                      .stream(new FindOptions().batchSize(5))
+                                      .map(c -> c.decodedBy)
+                                      .collect(Collectors.toList());
+        assertEquals(threads.size(), 50);
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("morphia-stream-decoder-")), threads.toString());
+    }
+
+    @Test(timeOut = 30000)
+    public void testInterruptedReader() throws InterruptedException {
+        save(100);
+
+        try (Stream<Counted> stream = getDs().find(Counted.class).stream(new FindOptions().batchSize(1))) {
+            Iterator<Counted> iterator = stream.iterator();
+            assertTrue(iterator.hasNext());
+            iterator.next();
+
+            Thread reader = null;
+            while (reader == null) {
+                Thread.sleep(50);
+                reader = Thread.getAllStackTraces().entrySet().stream()
+                               .filter(e -> Arrays.stream(e.getValue()).anyMatch(frame -> frame.getMethodName().equals("offer")
+                                                                                          && frame.getClassName().endsWith("$Reader")))
+                               .map(Map.Entry::getKey)
+                               .findFirst()
+                               .orElse(null);
+            }
+            reader.interrupt();
+
+            assertThrows(IllegalStateException.class, () -> iterator.forEachRemaining(c -> {
+            }));
+        }
+    }
+
+    @Test
+    public void testOptions() {
+        List<Integer> expected = save(20);
+
+        assertEquals(getDs().find(Counted.class)
+                            .stream(new FindOptions().sort(ascending("value")).batchReferences(true))
+                            .map(c -> c.value)
+                            .collect(Collectors.toList()), expected);
+        assertTrue(getDs().find(Counted.class)
+                          .stream(new FindOptions().lazyLoad(true))
+                          .allMatch(c -> c instanceof LazyEntity));
+    }
+
+    private List<Integer> save(int count) {
+        getMapper().map(Counted.class);
+        List<Counted> entities = new ArrayList<>();
+        IntStream.range(0, count).forEach(i -> entities.add(new Counted(i)));
+        getDs().save(entities);
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+
+    @Entity("counted")
+    public static class Counted {
+        @Id
+        protected ObjectId id;
+        protected int value;
+        @Transient
+        protected String decodedBy;
+
+        public Counted() {
+        }
+
+        Counted(int value) {
+            this.value = value;
+        }
+
+        @PostLoad
+        void loaded() {
+            decodedBy = Thread.currentThread().getName();
+        }
+    }
+}
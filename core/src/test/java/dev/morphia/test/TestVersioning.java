@@ -4,6 +4,7 @@ import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.result.UpdateResult;
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
+import dev.morphia.InsertManyOptions;
 import dev.morphia.ModifyOptions;
 import dev.morphia.Morphia;
 import dev.morphia.UpdateOptions;
@@ -25,6 +26,7 @@ import dev.morphia.test.models.methods.MethodMappedUser;
 import dev.morphia.test.models.versioned.AbstractVersionedBase;
 import dev.morphia.test.models.versioned.Versioned;
 import dev.morphia.test.models.versioned.VersionedChildEntity;
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -46,6 +48,58 @@ import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
 public class TestVersioning extends TestBase {
+    @Test
+    public void testBulkSaveWithStaleEntity() {
+        getMapper().map(List.of(VersionedType.class));
+        List<VersionedType> initial = List.of(new VersionedType(), new VersionedType(), new VersionedType());
+        getDs().save(initial);
+
+        VersionedType loaded = getDs().find(VersionedType.class)
+                                      .filter(eq("_id", initial.get(1).id))
+                                      .first();
+        loaded.text = "concurrent";
+        getDs().save(loaded);
+
+        // the concurrent save above already stored the version this save would write so the stale change must be detected by content
+        initial.get(1).text = "stale";
+        assertThrows(VersionMismatchException.class, () -> getDs().save(initial, new InsertManyOptions().ordered(false)));
+        assertEquals(initial.get(0).version, 2L);
+        assertEquals(initial.get(1).version, 1L);
+        assertEquals(initial.get(2).version, 2L);
+
+        for (VersionedType type : getDs().find(VersionedType.class).iterator().toList()) {
+            assertEquals(type.version, 2L);
+        }
+    }
+
+    @Test
+    public void testBulkSaveWithDeletedEntity() {
+        getMapper().map(List.of(VersionedType.class));
+        List<VersionedType> initial = List.of(new VersionedType(), new VersionedType());
+        getDs().save(initial);
+        getDs().find(VersionedType.class).filter(eq("_id", initial.get(0).id)).delete();
+
+        assertThrows(VersionMismatchException.class, () -> getDs().save(initial));
+        assertEquals(initial.get(0).version, 1L);
+        assertEquals(initial.get(1).version, 2L);
+        assertEquals(getDs().find(VersionedType.class).count(), 1, "a deleted entity should not be inserted again");
+    }
+
+    @Test
+    public void testBulkSaveKeepsUnmappedFields() {
+        getMapper().map(List.of(VersionedType.class));
+        List<VersionedType> initial = List.of(new VersionedType(), new VersionedType());
+        getDs().save(initial);
+        String collection = getMapper().getCollection(VersionedType.class).getNamespace().getCollectionName();
+        getDatabase().getCollection(collection).updateMany(new Document(), new Document("$set", new Document("unmapped", 42)));
+
+        getDs().save(initial);
+        assertEquals(initial.get(0).version, 2L);
+        for (Document document : getDatabase().getCollection(collection).find()) {
+            assertEquals(document.getInteger("unmapped"), Integer.valueOf(42));
+        }
+    }
+
     @Test
     public void testBulkUpdate() {
         final Datastore datastore = getDs();
@@ -0,0 +1,117 @@
+package dev.morphia.test.mapping;
+
+import dev.morphia.Datastore;
+import dev.morphia.mapping.EntityIndexProcessor;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MapperOptions;
+import dev.morphia.test.TestBase;
+import org.testng.annotations.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.morphia.Morphia.createDatastore;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class TestEntityIndex extends TestBase {
+    private static final String PACKAGE = "dev.morphia.test.indexed";
+
+    @Test
+    public void testProcessor() throws Exception {
+        Path indexed = compile(true, source("Animal", "@Entity(\"animals\") public class Animal { @Id ObjectId id; }"),
+            source("Dog", "public class Dog extends Animal { }"),
+            source("Named", "@Entity public interface Named { }"),
+            source("Person", "public class Person implements Named { @Id ObjectId id; }"),
+            source("Address", "@Embedded public class Address { String street; }"),
+            source("Helper", "public class Helper { }"));
+
+        List<String> index = Files.readAllLines(indexed.resolve("META-INF/morphia/entities"));
+        assertEquals(index, List.of(PACKAGE + ".Address", PACKAGE + ".Animal", PACKAGE + ".Dog", PACKAGE + ".Named",
+            PACKAGE + ".Person"));
+
+        try (URLClassLoader loader = loader(indexed)) {
+            Mapper mapper = mapper(loader);
+            mapper.mapPackage(PACKAGE);
+            assertTrue(mapper.isMapped(loader.loadClass(PACKAGE + ".Animal")));
+            assertTrue(mapper.isMapped(loader.loadClass(PACKAGE + ".Dog")));
+            assertTrue(mapper.isMapped(loader.loadClass(PACKAGE + ".Address")));
+            assertFalse(mapper.isMapped(loader.loadClass(PACKAGE + ".Helper")));
+        }
+    }
+
+    @Test
+    public void testPartialIndex() throws Exception {
+        Path indexed = compile(true, source("Animal", "@Entity(\"animals\") public class Animal { @Id ObjectId id; }"));
+        Path plain = compile(false, source("Plant", "@Entity(\"plants\") public class Plant { @Id ObjectId id; }"));
+
+        try (URLClassLoader loader = loader(indexed, plain)) {
+            Mapper mapper = mapper(loader);
+            mapper.mapPackage(PACKAGE);
+            assertTrue(mapper.isMapped(loader.loadClass(PACKAGE + ".Animal")));
+            assertTrue(mapper.isMapped(loader.loadClass(PACKAGE + ".Plant")), "types outside the indexed root should be scanned");
+        }
+    }
+
+    private Mapper mapper(ClassLoader loader) {
+        Datastore datastore = createDatastore(getMongoClient(), TEST_DB_NAME,
+            MapperOptions.builder()
+                         .useEntityIndex(true)
+                         .classLoader(loader)
+                         .build());
+        return datastore.getMapper();
+    }
+
+    private static URLClassLoader loader(Path... roots) throws IOException {
+        URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toUri().toURL();
+        }
+        return new URLClassLoader(urls, TestEntityIndex.class.getClassLoader());
+    }
+
+    private static String source(String name, String body) {
+        return name + "\n" + "package " + PACKAGE + ";\n"
+               + "import dev.morphia.annotations.*;\n"
+               + "import org.bson.types.ObjectId;\n"
+               + body;
+    }
+
+    /**
+     * Compiles the sources, each given as its type name followed by its code, with javac
+     */
+    private static Path compile(boolean index, String... sources) throws IOException {
+        Path root = Files.createTempDirectory("morphia-index");
+        Path output = Files.createDirectories(root.resolve("classes"));
+        Path sourceDir = Files.createDirectories(root.resolve("src"));
+        List<String> arguments = new ArrayList<>(List.of("-classpath", System.getProperty("java.class.path"),
+            "-d", output.toString()));
+        if (index) {
+            arguments.addAll(List.of("-processor", EntityIndexProcessor.class.getName()));
+        } else {
+            arguments.add("-proc:none");
+        }
+        for (String source : sources) {
+            int newLine = source.indexOf('\n');
+            Path file = sourceDir.resolve(source.substring(0, newLine) + ".java");
+            Files.writeString(file, source.substring(newLine + 1));
+            arguments.add(file.toString());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        int result = compiler.run(null, null, errors, arguments.toArray(new String[0]));
+        assertEquals(result, 0, errors.toString(StandardCharsets.UTF_8));
+        return output;
+    }
+}
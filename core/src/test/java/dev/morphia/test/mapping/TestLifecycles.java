@@ -5,7 +5,10 @@ import com.mongodb.client.model.geojson.Position;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.annotations.PostLoad;
+import dev.morphia.annotations.PostPersist;
+import dev.morphia.annotations.PrePersist;
 import dev.morphia.test.TestBase;
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -13,6 +16,21 @@ import org.testng.annotations.Test;
 import java.util.List;
 
 public class TestLifecycles extends TestBase {
+    @Test
+    public void testDocumentParameters() {
+        HasCallbacks entity = new HasCallbacks();
+        entity.value = "initial";
+        getDs().save(entity);
+
+        Assert.assertEquals(entity.prePersist, 1);
+        Assert.assertEquals(entity.persisted.getString("value"), "initial");
+
+        HasCallbacks loaded = getDs().find(HasCallbacks.class).first();
+        Assert.assertNotNull(loaded);
+        Assert.assertEquals(loaded.value, "initial");
+        Assert.assertEquals(loaded.loaded.getString("value"), "initial");
+    }
+
     @Test
     public void testWithGeoJson() {
         final Polygon polygon = new Polygon(
@@ -54,4 +72,29 @@ public class TestLifecycles extends TestBase {
             lifecycle = true;
         }
     }
+
+    @Entity(value = "callbacks", useDiscriminator = false)
+    private static class HasCallbacks {
+        @Id
+        private ObjectId id;
+        private String value;
+        private transient int prePersist;
+        private transient Document persisted;
+        private transient Document loaded;
+
+        @PrePersist
+        void prePersist() {
+            prePersist++;
+        }
+
+        @PostPersist
+        void postPersist(Document document) {
+            persisted = document;
+        }
+
+        @PostLoad
+        void postLoad(Document document) {
+            loaded = document;
+        }
+    }
 }
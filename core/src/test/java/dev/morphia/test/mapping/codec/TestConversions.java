@@ -0,0 +1,89 @@
+package dev.morphia.test.mapping.codec;
+
+import dev.morphia.mapping.codec.Conversions;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class TestConversions {
+    @Test
+    public void testConverter() {
+        Function<Object, Long> toLong = Conversions.converter(long.class);
+        assertEquals(toLong.apply(new Date(42)), Long.valueOf(42));
+        assertEquals(toLong.apply(42L), Long.valueOf(42));
+        assertEquals(toLong.apply(new Date(7)), Long.valueOf(7));
+
+        Function<Object, ObjectId> toId = Conversions.converter(ObjectId.class);
+        ObjectId id = new ObjectId();
+        assertEquals(toId.apply(id.toHexString()), id);
+        assertNull(toId.apply(null));
+
+        Function<Object, String> toString = Conversions.converter(String.class);
+        assertEquals(toString.apply(12), "12");
+
+        Function<Object, Thread.State> toEnum = Conversions.converter(Thread.State.class);
+        assertEquals(toEnum.apply("RUNNABLE"), Thread.State.RUNNABLE);
+    }
+
+    @Test
+    public void testLateRegistration() {
+        Function<Object, ?> converter = Conversions.converter(Marker.class);
+        StringBuilder value = new StringBuilder("marked");
+        assertEquals(converter.apply(value), value);
+
+        Conversions.register(StringBuilder.class, Marker.class, b -> new Marker(b.toString()));
+        try {
+            assertEquals(((Marker) converter.apply(value)).name, "marked");
+        } finally {
+            Conversions.unregister(StringBuilder.class, Marker.class);
+        }
+        assertEquals(converter.apply(value), value);
+    }
+
+    @Test
+    public void testAlternatingTypes() {
+        Function<Object, Long> toLong = Conversions.converter(Long.class);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(toLong.apply(new Date(i)), Long.valueOf(i));
+            assertEquals(toLong.apply(String.valueOf(i)), Long.valueOf(i));
+            assertEquals(toLong.apply((double) i), Long.valueOf(i));
+        }
+    }
+
+    @Test
+    public void testConcurrentConversions() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Function<Object, Integer> converter = Conversions.converter(Integer.class);
+            List<Future<Integer>> futures = IntStream.range(0, 1000)
+                                                     .mapToObj(i -> executor.submit(() -> i % 2 == 0
+                                                                                          ? converter.apply(String.valueOf(i))
+                                                                                          : Conversions.convert((double) i, Integer.class)))
+                                                     .collect(Collectors.toList());
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals(futures.get(i).get(), Integer.valueOf(i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static class Marker {
+        private final String name;
+
+        Marker(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package dev.morphia.test.mapping.codec;
 
 import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.mapping.codec.writer.RawDocumentWriter;
 import dev.morphia.test.TestBase;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
 import org.json.JSONException;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Date;
 import java.util.List;
 
 import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.array;
@@ -76,6 +80,14 @@ public class TestDocumentWriter extends TestBase {
         }
     }
 
+    @Test
+    public void dates() {
+        DocumentWriter writer = new DocumentWriter();
+        document(writer, () -> writer.writeDateTime("date", 42));
+
+        Assert.assertEquals(writer.getDocument(), new Document("date", new Date(42)));
+    }
+
     @Test
     public void duplicateKeys() {
         DocumentWriter writer = new DocumentWriter();
@@ -147,6 +159,29 @@ public class TestDocumentWriter extends TestBase {
         JSONAssert.assertEquals(expected, s, false);
     }
 
+    @Test
+    public void rawDocuments() {
+        RawDocumentWriter writer = new RawDocumentWriter();
+        document(writer, () -> {
+            document(writer, "id", () -> writer.writeInt32("first", 1));
+            array(writer, "list", () -> document(writer, () -> writer.writeInt32("first", 1)));
+            Assert.assertTrue(writer.containsName("id"));
+            Assert.assertFalse(writer.containsName("first"));
+        });
+
+        Assert.assertFalse(writer.hasDuplicateNames());
+        Assert.assertEquals(writer.getDocument(), new RawBsonDocument(new Document("id", new Document("first", 1))
+                                                                           .append("list", List.of(new Document("first", 1))),
+            new DocumentCodec()));
+
+        RawDocumentWriter duplicates = new RawDocumentWriter();
+        document(duplicates, () -> {
+            document(duplicates, "id", () -> duplicates.writeInt32("first", 1));
+            document(duplicates, "id", () -> duplicates.writeInt32("second", 2));
+        });
+        Assert.assertTrue(duplicates.hasDuplicateNames());
+    }
+
     @Test
     public void subdocuments() {
         DocumentWriter writer = new DocumentWriter();
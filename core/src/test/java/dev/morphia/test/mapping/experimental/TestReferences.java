@@ -10,7 +10,10 @@ import dev.morphia.annotations.Id;
 import dev.morphia.annotations.Reference;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MapperOptions.PropertyDiscovery;
+import dev.morphia.mapping.codec.references.MorphiaProxy;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.mapping.experimental.MorphiaReference;
+import dev.morphia.query.FindOptions;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.Author;
 import dev.morphia.test.models.Book;
@@ -30,7 +33,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import static dev.morphia.Morphia.createDatastore;
 import static dev.morphia.aggregation.experimental.stages.Unwind.on;
+import static dev.morphia.query.Sort.ascending;
 import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.lt;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
@@ -93,6 +98,44 @@ public class TestReferences extends TestBase {
         Assert.assertEquals(author, foundBook.author.get());
     }
 
+    @Test
+    public void testBatchedReferences() {
+        getMapper().map(List.of(FacebookUser.class));
+
+        List<FacebookUser> friends = List.of(new FacebookUser(100, "Eduardo Saverin"),
+            new FacebookUser(101, "Sean Parker"),
+            new FacebookUser(102, "Dustin Moskovitz"));
+        getDs().save(friends);
+        List<FacebookUser> users = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            FacebookUser user = new FacebookUser(i, "User " + i);
+            user.friends.add(friends.get(i % friends.size()));
+            user.friends.add(friends.get((i + 1) % friends.size()));
+            users.add(user);
+        }
+        getDs().save(users);
+
+        List<FacebookUser> loaded = getDs().find(FacebookUser.class)
+                                           .filter(lt("id", 100))
+                                           .iterator(new FindOptions()
+                                                         .batchReferences(true)
+                                                         .batchSize(2)
+                                                         .sort(ascending("id")))
+                                           .toList();
+
+        assertEquals(loaded.size(), users.size());
+        for (int i = 0; i < users.size(); i++) {
+            List<FacebookUser> expected = users.get(i).friends;
+            List<FacebookUser> actual = loaded.get(i).friends;
+            assertEquals(actual.size(), expected.size());
+            for (int j = 0; j < expected.size(); j++) {
+                assertEquals(actual.get(j).id, expected.get(j).id);
+                assertEquals(actual.get(j).username, expected.get(j).username);
+            }
+        }
+        assertNull(ReferenceBatch.current());
+    }
+
     @Test
     public void testComplexIds() {
         ComplexParent parent = new ComplexParent();
@@ -111,6 +154,37 @@ public class TestReferences extends TestBase {
         assertEquals(loaded, parent);
     }
 
+    @Test
+    public void testProxyClassesAreCached() {
+        List<Complex> lazyList = List.of(new Complex(new ChildId("Bippity", 67), "Boppity"));
+        getDs().save(lazyList);
+        for (int i = 0; i < 10; i++) {
+            ComplexParent parent = new ComplexParent();
+            parent.lazyList = lazyList;
+            getDs().save(parent);
+        }
+
+        long before = getMapper().getProxyClassCache().getGeneratedCount();
+        List<ComplexParent> loaded = getDs().find(ComplexParent.class).iterator().toList();
+        assertEquals(loaded.size(), 10);
+        loaded.forEach(parent -> assertEquals(parent.lazyList.size(), 1));
+        assertEquals(getMapper().getProxyClassCache().getGeneratedCount() - before, 1);
+    }
+
+    @Test
+    public void testProxyOfEntityCallingMethodsFromItsConstructor() {
+        Named named = new Named();
+        named.setName("Bob");
+        getDs().save(named);
+        HasNamed parent = new HasNamed();
+        parent.named = named;
+        getDs().save(parent);
+
+        HasNamed loaded = getDs().find(HasNamed.class).first();
+        assertFalse(((MorphiaProxy) loaded.named).isFetched());
+        assertEquals(loaded.named.getName(), "Bob");
+    }
+
     @Test
     public void testDBRefSaves() {
         getMapper().map(List.of(FacebookUser.class));
@@ -394,6 +468,33 @@ public class TestReferences extends TestBase {
         }
     }
 
+    @Entity
+    private static class HasNamed {
+        @Id
+        private ObjectId id;
+        @Reference(lazy = true)
+        private Named named;
+    }
+
+    @Entity
+    public static class Named {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        public Named() {
+            setName("unnamed");
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
     @Entity(value = "as", useDiscriminator = false)
     private static class HasIdOnly {
         @Reference(idOnly = true)
@@ -22,7 +22,9 @@ import dev.morphia.query.CountOptions;
 import dev.morphia.query.DefaultQueryFactory;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.LegacyQueryFactory;
+import dev.morphia.query.PreparedQuery;
 import dev.morphia.query.Query;
+import dev.morphia.query.QueryException;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.query.ValidationException;
 import dev.morphia.query.internal.MorphiaCursor;
@@ -45,12 +47,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.client.model.Collation.builder;
+import static dev.morphia.query.Parameter.parameter;
 import static dev.morphia.query.Sort.ascending;
 import static dev.morphia.query.Sort.descending;
 import static dev.morphia.query.Sort.naturalAscending;
@@ -68,6 +72,7 @@ import static dev.morphia.query.experimental.filters.Filters.regex;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.copyOfRange;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static java.util.regex.Pattern.compile;
 import static java.util.regex.Pattern.quote;
 import static org.bson.Document.parse;
@@ -78,6 +83,7 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -557,6 +563,45 @@ public class TestQuery extends TestBase {
                                                                 .not()).iterator());
     }
 
+    @Test
+    public void testFanOut() {
+        List<FacebookUser> users = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            users.add(new FacebookUser(i, String.format("user%02d", (i * 7) % 12)));
+        }
+        getDs().save(users);
+
+        List<Query<FacebookUser>> partitions = List.of(
+            getDs().find(FacebookUser.class).filter(lt("id", 5)),
+            getDs().find(FacebookUser.class).filter(gte("id", 5), lt("id", 9)),
+            getDs().find(FacebookUser.class).filter(gte("id", 9)));
+
+        List<FacebookUser> merged = getDs().findAll(partitions, new FindOptions()
+                                                                     .sort(descending("username"))
+                                                                     .skip(2)
+                                                                     .limit(5))
+                                           .toList();
+        List<String> expected = users.stream()
+                                     .map(u -> u.username)
+                                     .sorted(Comparator.reverseOrder())
+                                     .skip(2)
+                                     .limit(5)
+                                     .collect(toList());
+        assertEquals(merged.stream().map(u -> u.username).collect(toList()), expected);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertEquals(getDs().findAll(partitions, new FindOptions(), executor).toList().size(), users.size());
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> getDs().findAll(partitions, new FindOptions()
+                                                                                  .sort(ascending("username"))
+                                                                                  .collation(builder().locale("en")
+                                                                                                      .build())));
+    }
+
     @Test
     public void testFetchKeys() {
         PhotoWithKeywords pwk1 = new PhotoWithKeywords("california", "nevada", "arizona");
@@ -891,6 +936,23 @@ public class TestQuery extends TestBase {
                           .first());
     }
 
+    @Test
+    public void testPreparedQuery() {
+        getDs().save(asList(new Rectangle(1, 10), new Rectangle(4, 2), new Rectangle(6, 10), new Rectangle(8, 5), new Rectangle(10, 4)));
+
+        PreparedQuery<Rectangle> prepared = getDs().prepare(Rectangle.class,
+            gt("height", parameter("min")),
+            lt("height", parameter("max")));
+
+        assertEquals(prepared.bind(Map.of("min", 3, "max", 10)).count(), 3);
+        assertEquals(prepared.bind(Map.of("min", 0, "max", 5)).count(), 2);
+        assertEquals(prepared.bind(Map.of("min", 9, "max", 11)).count(), 1);
+        assertEquals(prepared.bind(Map.of("min", 3, "max", 10)).toDocument(),
+            getDs().find(Rectangle.class).filter(gt("height", 3), lt("height", 10)).toDocument());
+
+        assertThrows(QueryException.class, () -> prepared.bind(Map.of("min", 3)));
+    }
+
     @Test
     public void testProject() {
         getDs().save(new ContainsRenamedFields("Frank", "Zappa"));
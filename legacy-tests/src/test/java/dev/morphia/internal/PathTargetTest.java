@@ -58,6 +58,28 @@ public class PathTargetTest extends TestBase {
         assertEquals("listEmbeddedType.1", new PathTarget(mapper, entityModel, "listEmbeddedType.1").translatedPath());
     }
 
+    @Test
+    public void cachedPaths() {
+        getMapper().map(ParentType.class, EmbeddedType.class);
+        Mapper mapper = getMapper();
+        EntityModel entityModel = mapper.getEntityModel(ParentType.class);
+        PathCache cache = mapper.getPathCache();
+        long hits = cache.getHits();
+        long misses = cache.getMisses();
+
+        PathTarget first = new PathTarget(mapper, entityModel, "embedded.number");
+        assertEquals("embedded.number", first.translatedPath());
+        assertEquals(misses + 1, cache.getMisses());
+
+        PathTarget second = new PathTarget(mapper, entityModel, "embedded.number");
+        assertEquals("embedded.number", second.translatedPath());
+        Assert.assertSame(first.getTarget(), second.getTarget());
+        assertEquals(hits + 1, cache.getHits());
+
+        new PathTarget(mapper, entityModel, "embedded.number", false).translatedPath();
+        assertEquals(misses + 2, cache.getMisses());
+    }
+
     @Test
     public void dottedPath() {
         getMapper().map(ParentType.class, EmbeddedType.class);
@@ -0,0 +1,78 @@
+package dev.morphia.reactive;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import dev.morphia.Datastore;
+import dev.morphia.mapping.Mapper;
+import org.reactivestreams.Publisher;
+
+/**
+ * A datastore whose operations return {@link Publisher}s rather than blocking the calling thread.  Mapping, codecs, and the encoding of
+ * filters and updates are shared with the {@link Datastore} it is created from.  Nothing is sent to the server until a publisher is
+ * subscribed to.
+ *
+ * @morphia.experimental
+ * @see ReactiveMorphia#createDatastore(com.mongodb.reactivestreams.client.MongoClient, Datastore)
+ * @since 2.2
+ */
+public interface ReactiveDatastore {
+    /**
+     * Deletes the given entity by its ID
+     *
+     * @param entity the entity to delete
+     * @param <T>    the entity type
+     * @return the results of the delete
+     */
+    <T> Publisher<DeleteResult> delete(T entity);
+
+    /**
+     * Creates a query for a type
+     *
+     * @param type the type to query
+     * @param <T>  the type to query
+     * @return the query
+     */
+    <T> ReactiveQuery<T> find(Class<T> type);
+
+    /**
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the collection mapped for the type configured with any write concern named on the entity
+     */
+    <T> MongoCollection<T> getCollection(Class<T> type);
+
+    /**
+     * @return the database this datastore uses
+     */
+    MongoDatabase getDatabase();
+
+    /**
+     * @return the datastore used for mapping
+     */
+    Datastore getDatastore();
+
+    /**
+     * @return the Mapper used by this datastore
+     */
+    Mapper getMapper();
+
+    /**
+     * Inserts an entity in to the mapped collection
+     *
+     * @param entity the entity to insert
+     * @param <T>    the entity type
+     * @return the entity once it has been inserted
+     */
+    <T> Publisher<T> insert(T entity);
+
+    /**
+     * Saves an entity, inserting it if it has no ID and replacing it otherwise.  Versioned entities fail with a
+     * {@link dev.morphia.VersionMismatchException} if the stored version has changed since the entity was loaded.
+     *
+     * @param entity the entity to save
+     * @param <T>    the entity type
+     * @return the entity once it has been saved
+     */
+    <T> Publisher<T> save(T entity);
+}
@@ -0,0 +1,172 @@
+package dev.morphia.reactive;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.lang.Nullable;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import dev.morphia.Datastore;
+import dev.morphia.VersionMismatchException;
+import dev.morphia.internal.EntityCache;
+import dev.morphia.internal.EntitySnapshots;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.query.UpdateException;
+import dev.morphia.query.ValidationException;
+import dev.morphia.reactive.internal.Publishers;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * A reactive datastore backed by the reactive streams driver
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+@SuppressWarnings("unchecked")
+class ReactiveDatastoreImpl implements ReactiveDatastore {
+    private final MongoDatabase database;
+    private final Datastore datastore;
+    private final Mapper mapper;
+    private final Executor referenceExecutor;
+    private final Map<Class<?>, MongoCollection<?>> collections = new ConcurrentHashMap<>();
+
+    ReactiveDatastoreImpl(MongoDatabase database, Datastore datastore, Executor referenceExecutor) {
+        this.datastore = datastore;
+        this.mapper = datastore.getMapper();
+        this.database = database.withCodecRegistry(mapper.getCodecRegistry());
+        this.referenceExecutor = referenceExecutor;
+    }
+
+    @Override
+    public <T> Publisher<DeleteResult> delete(T entity) {
+        Object id = mapper.getId(entity);
+        return invalidating(mapper, entity.getClass(), id,
+            getCollection((Class<T>) entity.getClass()).deleteOne(new Document("_id", id)));
+    }
+
+    @Override
+    public <T> ReactiveQuery<T> find(Class<T> type) {
+        return new ReactiveQuery<>(this, datastore.find(type), referenceExecutor);
+    }
+
+    @Override
+    public <T> MongoCollection<T> getCollection(Class<T> type) {
+        return (MongoCollection<T>) collections.computeIfAbsent(type, t -> {
+            EntityModel model = mapper.getEntityModel(t);
+            MongoCollection<?> collection = database.getCollection(model.getCollectionName(), t);
+            WriteConcern writeConcern = model.getWriteConcern();
+            return writeConcern != null ? collection.withWriteConcern(writeConcern) : collection;
+        });
+    }
+
+    @Override
+    public MongoDatabase getDatabase() {
+        return database;
+    }
+
+    @Override
+    public Datastore getDatastore() {
+        return datastore;
+    }
+
+    @Override
+    public Mapper getMapper() {
+        return mapper;
+    }
+
+    @Override
+    public <T> Publisher<T> insert(T entity) {
+        return Publishers.defer(() -> {
+            PropertyModel versionField = mapper.getEntityModel(entity.getClass()).getVersionProperty();
+            if (versionField != null) {
+                Object value = versionField.getValue(entity);
+                if (value != null && !value.equals(0L)) {
+                    throw new ValidationException(Sofia.versionManuallySet());
+                }
+                versionField.setValue(entity, 1L);
+            }
+            return Publishers.map(getCollection((Class<T>) entity.getClass()).insertOne(entity), result -> entity);
+        });
+    }
+
+    @Override
+    public <T> Publisher<T> save(T entity) {
+        if (entity == null) {
+            throw new UpdateException(Sofia.cannotPersistNullEntity());
+        }
+        return invalidating(mapper, entity.getClass(), mapper.getId(entity), Publishers.defer(() -> {
+            MongoCollection<T> collection = getCollection((Class<T>) entity.getClass());
+            Object id = mapper.getId(entity);
+            EntitySnapshots snapshots = mapper.getSnapshots();
+            if (snapshots != null) {
+                // entities are always written in full here so what they were loaded from no longer describes the document
+                snapshots.remove(entity);
+            }
+            PropertyModel versionField = mapper.getEntityModel(entity.getClass()).getVersionProperty();
+            if (versionField == null) {
+                return id == null
+                       ? Publishers.map(collection.insertOne(entity), result -> entity)
+                       : Publishers.map(collection.replaceOne(new Document("_id", id), entity, new ReplaceOptions().upsert(true)),
+                           result -> entity);
+            }
+
+            Long oldVersion = (Long) versionField.getValue(entity);
+            long newVersion = oldVersion == null ? 1L : oldVersion + 1;
+            versionField.setValue(entity, newVersion);
+            if (id == null || newVersion == 1) {
+                return Publishers.map(collection.insertOne(entity), result -> entity, error -> {
+                    versionField.setValue(entity, oldVersion);
+                    return error instanceof MongoWriteException
+                           && ((MongoWriteException) error).getError().getCategory() == ErrorCategory.DUPLICATE_KEY
+                           ? new VersionMismatchException(entity.getClass(), id)
+                           : error;
+                });
+            }
+            Document filter = new Document("_id", id).append(versionField.getMappedName(), oldVersion);
+            return Publishers.map(collection.replaceOne(filter, entity), result -> {
+                if (result.getMatchedCount() != 1) {
+                    versionField.setValue(entity, oldVersion);
+                    throw new VersionMismatchException(entity.getClass(), id);
+                }
+                return entity;
+            }, error -> {
+                versionField.setValue(entity, oldVersion);
+                return error;
+            });
+        }));
+    }
+
+    /**
+     * Evicts what a write may have changed from the entity cache once the write is done
+     *
+     * @param mapper the mapper
+     * @param type   the entity type
+     * @param id     the id written or null if any document may have been
+     * @param write  the write
+     * @param <R>    the result type
+     * @return the write
+     */
+    static <R> Publisher<R> invalidating(Mapper mapper, Class<?> type, @Nullable Object id, Publisher<R> write) {
+        EntityCache cache = mapper.getEntityCache(type);
+        if (cache == null) {
+            return write;
+        }
+        return Publishers.onResult(write, () -> {
+            if (id != null) {
+                cache.invalidate(id);
+            } else {
+                cache.invalidateAll();
+            }
+        });
+    }
+}
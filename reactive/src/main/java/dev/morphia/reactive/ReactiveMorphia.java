@@ -0,0 +1,61 @@
+package dev.morphia.reactive;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import dev.morphia.Datastore;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates reactive datastores
+ *
+ * @morphia.experimental
+ * @since 2.2
+ */
+public final class ReactiveMorphia {
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private ReactiveMorphia() {
+    }
+
+    /**
+     * Creates a reactive datastore for the same database as the given datastore.  The datastore's mapper, codecs, and query encoding are
+     * reused so entities mapped on one are mapped on both.
+     *
+     * @param mongoClient the reactive client to use
+     * @param datastore   the datastore to share mapping with
+     * @return the new datastore
+     */
+    public static ReactiveDatastore createDatastore(MongoClient mongoClient, Datastore datastore) {
+        return createDatastore(mongoClient, datastore, ReferenceExecutor.INSTANCE);
+    }
+
+    /**
+     * Creates a reactive datastore for the same database as the given datastore.  The datastore's mapper, codecs, and query encoding are
+     * reused so entities mapped on one are mapped on both.
+     * <p>
+     * Resolving {@code @Reference} properties reads the referenced entities with the synchronous API.  Results of types which may hold
+     * references are therefore decoded on the given executor rather than on the driver's threads which must never block.
+     *
+     * @param mongoClient       the reactive client to use
+     * @param datastore         the datastore to share mapping with
+     * @param referenceExecutor the executor to decode entities holding references on
+     * @return the new datastore
+     */
+    public static ReactiveDatastore createDatastore(MongoClient mongoClient, Datastore datastore, Executor referenceExecutor) {
+        return new ReactiveDatastoreImpl(mongoClient.getDatabase(datastore.getDatabase().getName()), datastore, referenceExecutor);
+    }
+
+    /**
+     * The executor used unless one is given.  Its threads are created as needed since decoding blocks on reads, and are daemons so an
+     * application never has to shut it down.
+     */
+    private static final class ReferenceExecutor {
+        private static final Executor INSTANCE = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "morphia-reactive-references-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
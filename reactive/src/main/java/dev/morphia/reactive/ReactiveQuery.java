@@ -0,0 +1,285 @@
+package dev.morphia.reactive;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import dev.morphia.DeleteOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.annotations.Reference;
+import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Query;
+import dev.morphia.query.experimental.filters.Filter;
+import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.reactive.internal.Publishers;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.reactivestreams.Publisher;
+
+import java.util.HashSet;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A query whose results are published as they arrive from the server.  Filters are encoded by the same {@link Query} implementation the
+ * synchronous API uses.  Demand from the subscriber is passed through to the driver's cursor so results are only fetched as fast as they
+ * are consumed.
+ * <p>
+ * Client sessions, lazy loading, batched references and query logging are not supported and are rejected if set on the options.  Results
+ * of types which may hold {@code @Reference} properties are decoded on the datastore's reference executor since resolving references
+ * blocks.
+ *
+ * @param <T> the query type
+ * @morphia.experimental
+ * @since 2.2
+ */
+public class ReactiveQuery<T> {
+    private final ReactiveDatastore datastore;
+    private final Query<T> query;
+    private final Executor referenceExecutor;
+
+    ReactiveQuery(ReactiveDatastore datastore, Query<T> query, Executor referenceExecutor) {
+        this.datastore = datastore;
+        this.query = query;
+        this.referenceExecutor = referenceExecutor;
+    }
+
+    /**
+     * Counts the documents matching this query
+     *
+     * @return the count
+     */
+    public Publisher<Long> count() {
+        return getCollection().countDocuments(toDocument());
+    }
+
+    /**
+     * Deletes the first document matching this query
+     *
+     * @return the results
+     */
+    public Publisher<DeleteResult> delete() {
+        return delete(new DeleteOptions());
+    }
+
+    /**
+     * Deletes the documents matching this query
+     *
+     * @param options the options to apply
+     * @return the results
+     */
+    public Publisher<DeleteResult> delete(DeleteOptions options) {
+        MongoCollection<T> collection = getCollection();
+        if (options.writeConcern() != null) {
+            collection = collection.withWriteConcern(options.writeConcern());
+        }
+        return invalidating(options.isMulti()
+                            ? collection.deleteMany(toDocument(), options)
+                            : collection.deleteOne(toDocument(), options));
+    }
+
+    /**
+     * Adds filters to this query
+     *
+     * @param filters the filters to add
+     * @return this
+     */
+    public ReactiveQuery<T> filter(Filter... filters) {
+        query.filter(filters);
+        return this;
+    }
+
+    /**
+     * Publishes the first result of this query if there is one
+     *
+     * @return the first result
+     */
+    public Publisher<T> first() {
+        return first(new FindOptions());
+    }
+
+    /**
+     * Publishes the first result of this query if there is one
+     *
+     * @param options the options to apply
+     * @return the first result
+     */
+    public Publisher<T> first(FindOptions options) {
+        return find(options.copy().limit(1), true);
+    }
+
+    /**
+     * Publishes the results of this query
+     *
+     * @return the results
+     */
+    public Publisher<T> iterator() {
+        return iterator(new FindOptions());
+    }
+
+    /**
+     * Publishes the results of this query
+     *
+     * @param options the options to apply
+     * @return the results
+     */
+    public Publisher<T> iterator(FindOptions options) {
+        return find(options, false);
+    }
+
+    /**
+     * @return the query document sent to the server
+     * @morphia.internal
+     */
+    public Document toDocument() {
+        return query.toDocument();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReactiveQuery{query=%s}", query);
+    }
+
+    /**
+     * Updates the first document matching this query
+     *
+     * @param first   the first update operator
+     * @param updates any other update operators
+     * @return the results
+     */
+    public Publisher<UpdateResult> update(UpdateOperator first, UpdateOperator... updates) {
+        return update(new UpdateOptions(), first, updates);
+    }
+
+    /**
+     * Updates the documents matching this query
+     *
+     * @param options the options to apply
+     * @param first   the first update operator
+     * @param updates any other update operators
+     * @return the results
+     */
+    public Publisher<UpdateResult> update(UpdateOptions options, UpdateOperator first, UpdateOperator... updates) {
+        Document update = query.update(first, updates).toDocument();
+        MongoCollection<T> collection = getCollection();
+        if (options.writeConcern() != null) {
+            collection = collection.withWriteConcern(options.writeConcern());
+        }
+        return invalidating(options.isMulti()
+                            ? collection.updateMany(toDocument(), update, options)
+                            : collection.updateOne(toDocument(), update, options));
+    }
+
+    private MongoCollection<T> getCollection() {
+        return datastore.getCollection(query.getEntityClass());
+    }
+
+    private <R> Publisher<R> invalidating(Publisher<R> write) {
+        return ReactiveDatastoreImpl.invalidating(datastore.getMapper(), query.getEntityClass(), null, write);
+    }
+
+    private Publisher<T> find(FindOptions options, boolean first) {
+        reject(options.clientSession() != null, "clientSession");
+        reject(options.isLazyLoad(), "lazyLoad");
+        reject(options.isBatchReferences(), "batchReferences");
+        reject(options.isLogQuery(), "logQuery");
+
+        Mapper mapper = datastore.getMapper();
+        Class<T> type = query.getEntityClass();
+        MongoCollection<T> collection = getCollection();
+        if (options.getReadPreference() != null) {
+            collection = collection.withReadPreference(options.getReadPreference());
+        }
+        if (options.getReadConcern() != null) {
+            collection = collection.withReadConcern(options.getReadConcern());
+        }
+        if (!mayHoldReferences(mapper, mapper.getEntityModel(type), new HashSet<>())) {
+            FindPublisher<T> publisher = prepare(collection.find(toDocument()), options);
+            return first ? publisher.first() : publisher;
+        }
+        // references are resolved with blocking reads which must not run on the driver's threads
+        Codec<T> codec = collection.getCodecRegistry().get(type);
+        FindPublisher<RawBsonDocument> publisher = prepare(collection.withDocumentClass(RawBsonDocument.class).find(toDocument()), options);
+        return Publishers.mapOn(first ? publisher.first() : publisher, document -> document.decode(codec), referenceExecutor);
+    }
+
+    private static void reject(boolean set, String option) {
+        if (set) {
+            throw new UnsupportedOperationException(Sofia.reactiveOptionUnsupported(option));
+        }
+    }
+
+    /**
+     * Checks whether decoding a type, or any of its mapped subtypes or embedded types, might resolve a reference
+     */
+    private static boolean mayHoldReferences(Mapper mapper, EntityModel model, Set<EntityModel> seen) {
+        if (!seen.add(model)) {
+            return false;
+        }
+        for (PropertyModel property : model.getProperties()) {
+            if (property.hasAnnotation(Reference.class)) {
+                return true;
+            }
+            Class<?> type = property.getNormalizedType();
+            if (mapper.isMappable(type) && mayHoldReferences(mapper, mapper.getEntityModel(type), seen)) {
+                return true;
+            }
+        }
+        for (EntityModel subtype : model.getSubtypes()) {
+            if (mayHoldReferences(mapper, subtype, seen)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <D> FindPublisher<D> prepare(FindPublisher<D> publisher, FindOptions options) {
+        Mapper mapper = datastore.getMapper();
+        Class<T> type = query.getEntityClass();
+        if (options.getProjection() != null) {
+            publisher.projection(options.getProjection().map(mapper, type));
+        }
+        if (options.getBatchSize() > 0) {
+            publisher.batchSize(options.getBatchSize());
+        }
+        publisher.allowDiskUse(options.getAllowDiskUse());
+        publisher.collation(options.getCollation());
+        publisher.comment(options.getComment());
+        if (options.getCursorType() != null) {
+            publisher.cursorType(options.getCursorType());
+        }
+        publisher.hint(options.getHint());
+        publisher.hintString(options.getHintString());
+        publisher.limit(options.getLimit());
+        publisher.max(options.getMax());
+        publisher.maxAwaitTime(options.getMaxAwaitTime(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+        publisher.maxTime(options.getMaxTime(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+        publisher.min(options.getMin());
+        publisher.noCursorTimeout(options.isNoCursorTimeout());
+        publisher.oplogReplay(options.isOplogReplay());
+        publisher.partial(options.isPartial());
+        publisher.returnKey(options.isReturnKey());
+        publisher.showRecordId(options.isShowRecordId());
+        publisher.skip(options.getSkip());
+        Document sort = options.getSort();
+        if (sort != null) {
+            Document mapped = new Document();
+            EntityModel model = mapper.getEntityModel(type);
+            for (Entry<String, Object> entry : sort.entrySet()) {
+                Object value = entry.getValue();
+                boolean metaScore = value instanceof Document && ((Document) value).get("$meta") != null;
+                mapped.put(new PathTarget(mapper, model, entry.getKey(), !metaScore).translatedPath(), value);
+            }
+            publisher.sort(mapped);
+        }
+        return publisher;
+    }
+}
@@ -0,0 +1,325 @@
+package dev.morphia.reactive.internal;
+
+import com.mongodb.lang.Nullable;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A few operators for composing the driver's publishers without depending on a reactive library.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public final class Publishers {
+    private static final Subscription EMPTY = new Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private Publishers() {
+    }
+
+    /**
+     * Creates a publisher which calls the supplier for each subscriber.  Any work done by the supplier, such as updating the entity's
+     * version, only happens once something subscribes.
+     *
+     * @param supplier the publisher supplier
+     * @param <T>      the element type
+     * @return the deferred publisher
+     */
+    public static <T> Publisher<T> defer(Supplier<Publisher<T>> supplier) {
+        return subscriber -> {
+            Publisher<T> publisher;
+            try {
+                publisher = supplier.get();
+            } catch (RuntimeException e) {
+                subscriber.onSubscribe(EMPTY);
+                subscriber.onError(e);
+                return;
+            }
+            publisher.subscribe(subscriber);
+        };
+    }
+
+    /**
+     * Maps the elements emitted by a publisher
+     *
+     * @param source the source publisher
+     * @param mapper the element mapping.  An exception thrown here cancels the source and is passed to the subscriber.
+     * @param <S>    the source element type
+     * @param <T>    the mapped element type
+     * @return the mapped publisher
+     */
+    public static <S, T> Publisher<T> map(Publisher<S> source, Function<? super S, ? extends T> mapper) {
+        return map(source, mapper, Function.identity());
+    }
+
+    /**
+     * Maps the elements and any error emitted by a publisher
+     *
+     * @param source the source publisher
+     * @param mapper the element mapping.  An exception thrown here cancels the source and is passed to the subscriber.
+     * @param errors the error mapping
+     * @param <S>    the source element type
+     * @param <T>    the mapped element type
+     * @return the mapped publisher
+     */
+    public static <S, T> Publisher<T> map(Publisher<S> source, Function<? super S, ? extends T> mapper,
+                                          Function<Throwable, Throwable> errors) {
+        return subscriber -> source.subscribe(new MappingSubscriber<>(subscriber, mapper, errors));
+    }
+
+    /**
+     * Maps the elements emitted by a publisher on an executor rather than on the thread the publisher signals from.  This is for mappings
+     * which block and so must not run on the driver's own threads.  Elements are mapped one at a time and in order.
+     *
+     * @param source   the source publisher
+     * @param mapper   the element mapping.  An exception thrown here cancels the source and is passed to the subscriber.
+     * @param executor the executor to map the elements and signal the subscriber on
+     * @param <S>      the source element type
+     * @param <T>      the mapped element type
+     * @return the mapped publisher
+     */
+    public static <S, T> Publisher<T> mapOn(Publisher<S> source, Function<? super S, ? extends T> mapper, Executor executor) {
+        return subscriber -> source.subscribe(new ExecutorMappingSubscriber<>(subscriber, mapper, executor));
+    }
+
+    /**
+     * Runs an action once a publisher emits, fails or is cancelled, before the subscriber hears of it.  This is meant for single result
+     * publishers such as writes where the action must follow the write whatever its outcome.
+     *
+     * @param source the source publisher
+     * @param action the action to run.  It is run at most once.
+     * @param <T>    the element type
+     * @return the publisher
+     */
+    public static <T> Publisher<T> onResult(Publisher<T> source, Runnable action) {
+        return subscriber -> source.subscribe(new ResultSubscriber<>(subscriber, action));
+    }
+
+    private static class ResultSubscriber<T> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super T> downstream;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final Runnable action;
+        private Subscription subscription;
+
+        ResultSubscriber(Subscriber<? super T> downstream, Runnable action) {
+            this.downstream = downstream;
+            this.action = action;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            run();
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            run();
+            downstream.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            run();
+            downstream.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            subscription.cancel();
+            // the write may still be applied
+            run();
+        }
+
+        private void run() {
+            if (done.compareAndSet(false, true)) {
+                action.run();
+            }
+        }
+    }
+
+    /**
+     * Queues the signals from the source and drains them on the executor.  At most one drain runs at a time so the subscriber is never
+     * signalled concurrently.
+     */
+    private static class ExecutorMappingSubscriber<S, T> implements Subscriber<S>, Subscription, Runnable {
+        private final Subscriber<? super T> downstream;
+        private final Function<? super S, ? extends T> mapper;
+        private final Executor executor;
+        private final Queue<Object> signals = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private Subscription subscription;
+        private boolean done;
+
+        ExecutorMappingSubscriber(Subscriber<? super T> downstream, Function<? super S, ? extends T> mapper, Executor executor) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.executor = executor;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(S item) {
+            signal(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            signal(new Terminal(throwable));
+        }
+
+        @Override
+        public void onComplete() {
+            signal(new Terminal(null));
+        }
+
+        @Override
+        public void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscription.cancel();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            int missed = 1;
+            do {
+                Object signal;
+                while ((signal = signals.poll()) != null) {
+                    if (done || cancelled) {
+                        continue;
+                    }
+                    if (signal instanceof Terminal) {
+                        done = true;
+                        Throwable error = ((Terminal) signal).error;
+                        if (error != null) {
+                            downstream.onError(error);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        continue;
+                    }
+                    T mapped;
+                    try {
+                        mapped = mapper.apply((S) signal);
+                    } catch (RuntimeException e) {
+                        done = true;
+                        subscription.cancel();
+                        downstream.onError(e);
+                        continue;
+                    }
+                    downstream.onNext(mapped);
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void signal(Object signal) {
+            signals.offer(signal);
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+    }
+
+    private static final class Terminal {
+        @Nullable
+        private final Throwable error;
+
+        private Terminal(@Nullable Throwable error) {
+            this.error = error;
+        }
+    }
+
+    private static class MappingSubscriber<S, T> implements Subscriber<S> {
+        private final Subscriber<? super T> downstream;
+        private final Function<? super S, ? extends T> mapper;
+        private final Function<Throwable, Throwable> errors;
+        private Subscription subscription;
+        private boolean done;
+
+        MappingSubscriber(Subscriber<? super T> downstream, Function<? super S, ? extends T> mapper,
+                          Function<Throwable, Throwable> errors) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.errors = errors;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(S item) {
+            if (done) {
+                return;
+            }
+            T mapped;
+            try {
+                mapped = mapper.apply(item);
+            } catch (RuntimeException e) {
+                done = true;
+                subscription.cancel();
+                downstream.onError(e);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                downstream.onError(errors.apply(throwable));
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package dev.morphia.reactive;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import dev.morphia.VersionMismatchException;
+import dev.morphia.annotations.Cacheable;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Reference;
+import dev.morphia.annotations.Version;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Sort;
+import dev.morphia.test.TestBase;
+import dev.morphia.test.models.FacebookUser;
+import org.bson.types.ObjectId;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gt;
+import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
+import static dev.morphia.query.experimental.updates.UpdateOperators.set;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class TestReactiveDatastore extends TestBase {
+    private MongoClient reactiveClient;
+
+    @AfterClass
+    public void closeClient() {
+        if (reactiveClient != null) {
+            reactiveClient.close();
+        }
+    }
+
+    @Test
+    public void testCrud() {
+        ReactiveDatastore datastore = getReactiveDatastore();
+        for (int i = 1; i <= 5; i++) {
+            await(datastore.save(new FacebookUser(i, "user" + i)));
+        }
+
+        assertEquals(single(datastore.find(FacebookUser.class).count()), Long.valueOf(5));
+        List<FacebookUser> users = await(datastore.find(FacebookUser.class)
+                                                  .filter(gt("id", 2))
+                                                  .iterator(new FindOptions()
+                                                                .batchSize(1)
+                                                                .sort(Sort.descending("username"))));
+        assertEquals(users.size(), 3);
+        assertEquals(users.get(0).username, "user5");
+
+        single(datastore.find(FacebookUser.class)
+                        .filter(eq("id", 1))
+                        .update(inc("loginCount")));
+        assertEquals(single(datastore.find(FacebookUser.class).filter(eq("id", 1)).first()).loginCount, 1);
+
+        DeleteResult deleted = single(datastore.delete(users.get(0)));
+        assertEquals(deleted.getDeletedCount(), 1);
+        assertEquals(getDs().find(FacebookUser.class).count(), 4);
+    }
+
+    @Test
+    public void testVersioning() {
+        ReactiveDatastore datastore = getReactiveDatastore();
+        getMapper().map(ReactiveVersioned.class);
+
+        ReactiveVersioned entity = single(datastore.save(new ReactiveVersioned()));
+        assertEquals(entity.version, Long.valueOf(1));
+
+        ReactiveVersioned loaded = single(datastore.find(ReactiveVersioned.class).filter(eq("_id", entity.id)).first());
+        single(datastore.save(loaded));
+        assertEquals(loaded.version, Long.valueOf(2));
+
+        try {
+            await(datastore.save(entity));
+            fail("Saving a stale entity should fail");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getCause() instanceof VersionMismatchException, e.getCause().toString());
+        }
+        assertEquals(entity.version, Long.valueOf(1));
+    }
+
+    @Test
+    public void testCacheInvalidation() {
+        ReactiveDatastore datastore = getReactiveDatastore();
+        getMapper().map(ReactiveCached.class);
+        ReactiveCached entity = new ReactiveCached();
+        entity.id = "cached";
+        entity.name = "first";
+        single(datastore.save(entity));
+        assertEquals(getDs().find(ReactiveCached.class).filter(eq("_id", "cached")).first().name, "first");
+
+        entity.name = "second";
+        single(datastore.save(entity));
+        assertEquals(getDs().find(ReactiveCached.class).filter(eq("_id", "cached")).first().name, "second");
+
+        single(datastore.find(ReactiveCached.class).filter(eq("_id", "cached")).update(set("name", "third")));
+        assertEquals(getDs().find(ReactiveCached.class).filter(eq("_id", "cached")).first().name, "third");
+
+        single(datastore.delete(entity));
+        assertNull(getDs().find(ReactiveCached.class).filter(eq("_id", "cached")).first());
+    }
+
+    @Test
+    public void testFindOptions() {
+        ReactiveDatastore datastore = getReactiveDatastore();
+        for (int i = 1; i <= 5; i++) {
+            await(datastore.save(new FacebookUser(i, "user" + i)));
+        }
+
+        List<FacebookUser> users = await(datastore.find(FacebookUser.class)
+                                                  .iterator(new FindOptions()
+                                                                .sort(Sort.ascending("username"))
+                                                                .skip(1)
+                                                                .limit(2)));
+        assertEquals(users.size(), 2);
+        assertEquals(users.get(0).username, "user2");
+
+        try {
+            datastore.find(FacebookUser.class).iterator(new FindOptions().logQuery());
+            fail("Unsupported options should be rejected");
+        } catch (UnsupportedOperationException ignored) {
+        }
+    }
+
+    @Test
+    public void testReferences() {
+        ReactiveDatastore datastore = getReactiveDatastore();
+        getMapper().map(ReactiveCached.class, ReactiveReferrer.class);
+        ReactiveCached referenced = new ReactiveCached();
+        referenced.id = "referenced";
+        referenced.name = "target";
+        single(datastore.save(referenced));
+        ReactiveReferrer referrer = new ReactiveReferrer();
+        referrer.target = referenced;
+        single(datastore.save(referrer));
+
+        List<String> threads = new CopyOnWriteArrayList<>();
+        ReactiveDatastore offloaded = ReactiveMorphia.createDatastore(reactiveClient, getDs(), command -> {
+            threads.add(Thread.currentThread().getName());
+            command.run();
+        });
+        ReactiveReferrer loaded = single(offloaded.find(ReactiveReferrer.class).first());
+        assertEquals(loaded.target.name, "target");
+        assertTrue(!threads.isEmpty(), "types with references should be decoded on the reference executor");
+    }
+
+    private ReactiveDatastore getReactiveDatastore() {
+        if (reactiveClient == null) {
+            reactiveClient = MongoClients.create(
+                MongoClientSettings.builder()
+                                   .applyToClusterSettings(builder -> builder.hosts(getMongoClient().getClusterDescription()
+                                                                                                    .getClusterSettings()
+                                                                                                    .getHosts()))
+                                   .build());
+        }
+        return ReactiveMorphia.createDatastore(reactiveClient, getDs());
+    }
+
+    private <T> T single(Publisher<T> publisher) {
+        List<T> results = await(publisher);
+        assertTrue(results.size() <= 1, results.toString());
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    /**
+     * Collects everything a publisher emits, requesting one element at a time to exercise the cursor's demand handling.
+     */
+    private <T> List<T> await(Publisher<T> publisher) {
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<T>() {
+            private final List<T> results = new ArrayList<>();
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(T item) {
+                results.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(results);
+            }
+        });
+        try {
+            return future.get(30, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException | TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Entity
+    @Cacheable
+    private static class ReactiveCached {
+        @Id
+        private String id;
+        private String name;
+    }
+
+    @Entity
+    private static class ReactiveReferrer {
+        @Id
+        private ObjectId id;
+        @Reference
+        private ReactiveCached target;
+    }
+
+    @Entity
+    private static class ReactiveVersioned {
+        @Id
+        private ObjectId id;
+        @Version
+        private Long version;
+        private String name;
+    }
+}